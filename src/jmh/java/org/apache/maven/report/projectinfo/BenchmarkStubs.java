@@ -0,0 +1,118 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.report.projectinfo;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+
+import org.apache.maven.artifact.Artifact;
+import org.apache.maven.artifact.DefaultArtifact;
+import org.apache.maven.artifact.handler.DefaultArtifactHandler;
+import org.apache.maven.model.License;
+import org.apache.maven.model.Model;
+import org.apache.maven.project.MavenProject;
+import org.apache.maven.project.ProjectBuilder;
+import org.apache.maven.project.ProjectBuildingResult;
+import org.apache.maven.repository.RepositorySystem;
+import org.codehaus.plexus.i18n.I18N;
+
+/**
+ * In-memory stand-ins of the Maven components used by the renderers, so that the benchmarks measure the renderers
+ * themselves rather than I/O.
+ */
+public final class BenchmarkStubs {
+    private BenchmarkStubs() {
+        // nop
+    }
+
+    /**
+     * @return an {@link I18N} returning the keys as texts.
+     */
+    public static I18N i18n() {
+        return newProxy(I18N.class, new InvocationHandler() {
+            public Object invoke(Object proxy, Method method, Object[] args) {
+                if ("getString".equals(method.getName())) {
+                    return args[args.length - 1];
+                }
+                return null;
+            }
+        });
+    }
+
+    /**
+     * @return a {@link RepositorySystem} only able to create project artifacts.
+     */
+    public static RepositorySystem repositorySystem() {
+        return newProxy(RepositorySystem.class, new InvocationHandler() {
+            public Object invoke(Object proxy, Method method, Object[] args) {
+                if ("createProjectArtifact".equals(method.getName())) {
+                    return new DefaultArtifact(
+                            (String) args[0],
+                            (String) args[1],
+                            (String) args[2],
+                            null,
+                            "pom",
+                            null,
+                            new DefaultArtifactHandler("pom"));
+                }
+                throw new UnsupportedOperationException(method.getName());
+            }
+        });
+    }
+
+    /**
+     * @return a {@link ProjectBuilder} building minimal projects with a name, a url and a license, without
+     * reading any POM.
+     */
+    public static ProjectBuilder projectBuilder() {
+        return newProxy(ProjectBuilder.class, new InvocationHandler() {
+            public Object invoke(Object proxy, Method method, Object[] args) {
+                if (!"build".equals(method.getName()) || !(args[0] instanceof Artifact)) {
+                    throw new UnsupportedOperationException(method.getName());
+                }
+
+                Artifact artifact = (Artifact) args[0];
+
+                License license = new License();
+                license.setName("The Apache Software License, Version 2.0");
+                license.setUrl("https://www.apache.org/licenses/LICENSE-2.0.txt");
+
+                Model model = new Model();
+                model.setGroupId(artifact.getGroupId());
+                model.setArtifactId(artifact.getArtifactId());
+                model.setVersion(artifact.getVersion());
+                model.setName(artifact.getArtifactId());
+                model.setUrl("https://example.org/" + artifact.getArtifactId());
+                model.addLicense(license);
+
+                final MavenProject project = new MavenProject(model);
+                return newProxy(ProjectBuildingResult.class, new InvocationHandler() {
+                    public Object invoke(Object proxy, Method method, Object[] args) {
+                        return "getProject".equals(method.getName()) ? project : null;
+                    }
+                });
+            }
+        });
+    }
+
+    private static <T> T newProxy(Class<T> type, InvocationHandler handler) {
+        return type.cast(Proxy.newProxyInstance(BenchmarkStubs.class.getClassLoader(), new Class<?>[] {type}, handler));
+    }
+}
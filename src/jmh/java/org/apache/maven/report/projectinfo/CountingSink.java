@@ -0,0 +1,68 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.report.projectinfo;
+
+import org.apache.maven.doxia.sink.SinkEventAttributes;
+import org.apache.maven.doxia.sink.impl.SinkAdapter;
+
+/**
+ * A sink ignoring the structure of the document and counting the texts written to it, so that the benchmarks
+ * return a measure of the output of the engines without paying for its rendering.
+ */
+public class CountingSink extends SinkAdapter {
+    private long texts;
+
+    private long characters;
+
+    @Override
+    public void text(String text) {
+        count(text);
+    }
+
+    @Override
+    public void text(String text, SinkEventAttributes attributes) {
+        count(text);
+    }
+
+    @Override
+    public void rawText(String text) {
+        count(text);
+    }
+
+    /**
+     * @return the number of texts written.
+     */
+    public long getTexts() {
+        return texts;
+    }
+
+    /**
+     * @return the number of characters of the texts written.
+     */
+    public long getCharacters() {
+        return characters;
+    }
+
+    private void count(String text) {
+        texts++;
+        if (text != null) {
+            characters += text.length();
+        }
+    }
+}
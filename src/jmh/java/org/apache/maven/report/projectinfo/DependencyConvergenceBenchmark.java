@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.report.projectinfo;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.maven.model.Model;
+import org.apache.maven.project.MavenProject;
+import org.apache.maven.report.projectinfo.dependencies.SyntheticDependencyTrees;
+import org.apache.maven.shared.dependency.graph.DependencyNode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Analysis of the dependency trees of a synthetic reactor by {@link DependencyConvergenceReport}, the collection of
+ * the trees excluded. The versions of the artifacts differ between consecutive modules, and within each module.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class DependencyConvergenceBenchmark {
+    /**
+     * Number of modules of the reactor.
+     */
+    @Param({"10", "100"})
+    private int modules;
+
+    /**
+     * Number of nodes of the tree of each module.
+     */
+    @Param({"1000"})
+    private int nodes;
+
+    /**
+     * Number of children of each node.
+     */
+    @Param({"8"})
+    private int fanOut;
+
+    /**
+     * Maximum depth of the trees, deeper than the trees of the default sizes.
+     */
+    @Param({"64"})
+    private int depth;
+
+    /**
+     * Number of versions of each artifact: 1 for a converging reactor.
+     */
+    @Param({"1", "3"})
+    private int versions;
+
+    private List<MavenProject> reactorProjects;
+
+    private List<DependencyNode> trees;
+
+    @Setup
+    public void setUp() {
+        reactorProjects = new ArrayList<>(modules);
+        trees = new ArrayList<>(modules);
+        for (int i = 0; i < modules; i++) {
+            Model model = new Model();
+            model.setGroupId("org.example.reactor");
+            model.setArtifactId("module-" + i);
+            model.setVersion("1.0-SNAPSHOT");
+            reactorProjects.add(new MavenProject(model));
+
+            trees.add(SyntheticDependencyTrees.newTree(nodes, depth, fanOut, versions, i));
+        }
+    }
+
+    @Benchmark
+    public int analyze() {
+        DependencyConvergenceReport report = new DependencyConvergenceReport();
+        report.reactorProjects = reactorProjects;
+
+        return report.analyzeDependencyTree(trees).getConflictingCount();
+    }
+}
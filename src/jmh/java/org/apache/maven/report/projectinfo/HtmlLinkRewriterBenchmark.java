@@ -0,0 +1,138 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.report.projectinfo;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Extraction of the body of an HTML license page and rewriting of its links by {@link HtmlLinkRewriter}, compared
+ * to the regular expressions previously used by the licenses report. The page is laid out like the GNU licenses
+ * pages: a table of contents of fragment links, then sections with links to other pages of the site and images.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class HtmlLinkRewriterBenchmark {
+    private static final String BASE_URL = "https://www.gnu.org/licenses/";
+
+    /**
+     * Number of sections of the page.
+     */
+    @Param({"20", "200"})
+    private int sections;
+
+    private String html;
+
+    @Setup
+    public void setUp() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("<!DOCTYPE html>\n<html lang=\"en\">\n<head>\n<meta charset=\"utf-8\">\n");
+        sb.append("<title>GNU General Public License v3.0 - GNU Project</title>\n");
+        sb.append("<link rel=\"stylesheet\" href=\"/style.min.css\">\n</head>\n<body id=\"license\">\n");
+        sb.append("<div id=\"header\"><a href=\"/\"><img src=\"/graphics/heckert_gnu.transp.small.png\" ");
+        sb.append("alt=\"GNU\" width=\"73\" height=\"70\"></a></div>\n");
+        sb.append("<h2 id=\"TOC\">Table of Contents</h2>\n<ul>\n");
+        for (int i = 0; i < sections; i++) {
+            sb.append("<li><a id=\"toc").append(i).append("\" href=\"#section").append(i).append("\">");
+            sb.append(i).append(". Section ").append(i).append("</a></li>\n");
+        }
+        sb.append("</ul>\n");
+        for (int i = 0; i < sections; i++) {
+            sb.append("<h3><a id=\"section").append(i).append("\" href=\"#toc").append(i).append("\">");
+            sb.append(i).append(". Section ").append(i).append("</a></h3>\n");
+            sb.append("<p>The licenses for most software and other practical works are designed to take away your ");
+            sb.append("freedom to share and change the works. See the <a href=\"gpl-faq.html#WhatIsGPL\">FAQ</a>, ");
+            sb.append("the <a href=\"/philosophy/free-sw.html\">free software definition</a> and ");
+            sb.append("<a href=\"https://www.fsf.org/licensing\">FSF licensing</a>. Contact ");
+            sb.append("<a href=\"mailto:licensing@fsf.org\">licensing@fsf.org</a> for questions.</p>\n");
+            if (i % 10 == 0) {
+                sb.append("<p><img src=\"../graphics/gplv3-127x51.png\" alt=\"GPLv3\"></p>\n");
+            }
+        }
+        sb.append("<div id=\"footer\"><p>Copyright &copy; 2007 <a href=\"https://www.fsf.org\">Free Software ");
+        sb.append("Foundation</a>, Inc.</p></div>\n</body>\n</html>\n");
+        html = sb.toString();
+
+        if (!regularExpressions().equals(singlePass())) {
+            throw new IllegalStateException("The rewriters don't agree");
+        }
+    }
+
+    @Benchmark
+    public String singlePass() {
+        return HtmlLinkRewriter.rewriteBody(html, BASE_URL);
+    }
+
+    @Benchmark
+    public String regularExpressions() {
+        String htmlLC = html.toLowerCase(Locale.ENGLISH);
+        int bodyStart = htmlLC.indexOf('>', htmlLC.indexOf("<body")) + 1;
+        int bodyEnd = htmlLC.indexOf("</body>");
+        String body = html.substring(bodyStart, bodyEnd);
+
+        String serverURL = BASE_URL.substring(0, BASE_URL.indexOf('/', BASE_URL.indexOf("//") + 2));
+        body = replaceParts(body, BASE_URL, serverURL, "[aA]", "[hH][rR][eE][fF]");
+        return replaceParts(body, BASE_URL, serverURL, "[iI][mM][gG]", "[sS][rR][cC]");
+    }
+
+    private static String replaceParts(
+            String html, String baseURL, String serverURL, String tagPattern, String attributePattern) {
+        Pattern anchor = Pattern.compile(
+                "(<\\s*" + tagPattern + "\\s+[^>]*" + attributePattern + "\\s*=\\s*\")([^\"]*)\"([^>]*>)");
+        StringBuilder sb = new StringBuilder(html);
+
+        int indx = 0;
+        boolean done = false;
+        while (!done) {
+            Matcher mAnchor = anchor.matcher(sb);
+            if (mAnchor.find(indx)) {
+                indx = mAnchor.end(3);
+
+                if (mAnchor.group(2).startsWith("/")) {
+                    sb.insert(mAnchor.start(2), serverURL);
+                    indx += serverURL.length();
+                } else if (mAnchor.group(2).indexOf(':') < 0) {
+                    sb.insert(mAnchor.start(2), baseURL);
+                    indx += baseURL.length();
+                }
+            } else {
+                done = true;
+            }
+        }
+        return sb.toString();
+    }
+}
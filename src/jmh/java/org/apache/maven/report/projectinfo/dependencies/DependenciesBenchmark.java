@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.report.projectinfo.dependencies;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.maven.artifact.Artifact;
+import org.apache.maven.project.MavenProject;
+import org.apache.maven.shared.dependency.graph.DependencyNode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Flattening of a synthetic dependency tree by {@link Dependencies}, and lookups of a set of artifacts of which half
+ * are in the tree.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class DependenciesBenchmark {
+    /**
+     * Number of nodes of the tree.
+     */
+    @Param({"5000", "50000"})
+    private int nodes;
+
+    /**
+     * Number of children of each node.
+     */
+    @Param({"8"})
+    private int fanOut;
+
+    /**
+     * Maximum depth of the tree, deeper than the trees of the default sizes.
+     */
+    @Param({"64"})
+    private int depth;
+
+    private MavenProject project;
+
+    private DependencyNode root;
+
+    private List<Artifact> artifacts;
+
+    @Setup
+    public void setUp() {
+        project = new MavenProject();
+        root = SyntheticDependencyTrees.newTree(nodes, depth, fanOut, 1, 0);
+        artifacts = SyntheticDependencyTrees.newArtifacts(nodes);
+    }
+
+    @Benchmark
+    public Map<String, List<Artifact>> flatten() {
+        Dependencies dependencies = new Dependencies(project, root, null);
+
+        dependencies.getDependenciesByScope(false);
+        return dependencies.getDependenciesByScope(true);
+    }
+
+    @Benchmark
+    public int containsDependency() {
+        Dependencies dependencies = new Dependencies(project, root, null);
+
+        int count = 0;
+        for (Artifact artifact : artifacts) {
+            if (dependencies.containsDependency(artifact)) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
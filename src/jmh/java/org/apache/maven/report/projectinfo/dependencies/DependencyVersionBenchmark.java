@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.report.projectinfo.dependencies;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.maven.shared.dependency.graph.DependencyNode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Search of the conflicting versions of a synthetic dependency tree by {@link DependencyVersionMap} and by
+ * {@link DependencyVersionTable}, which replaced it in the dependency convergence report.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class DependencyVersionBenchmark {
+    /**
+     * Number of nodes of the tree.
+     */
+    @Param({"5000", "50000"})
+    private int nodes;
+
+    /**
+     * Number of children of each node.
+     */
+    @Param({"8"})
+    private int fanOut;
+
+    /**
+     * Maximum depth of the tree, deeper than the trees of the default sizes.
+     */
+    @Param({"64"})
+    private int depth;
+
+    /**
+     * Number of versions of each artifact: 1 for a tree without conflicts, 2 for conflicts on half the artifacts.
+     */
+    @Param({"1", "2"})
+    private int versions;
+
+    private DependencyNode root;
+
+    @Setup
+    public void setUp() {
+        root = SyntheticDependencyTrees.newTree(nodes, depth, fanOut, versions, 0);
+    }
+
+    @Benchmark
+    public int versionMap() {
+        DependencyVersionMap versionMap = new DependencyVersionMap();
+        versionMap.setUniqueVersions(true);
+        root.accept(versionMap);
+        return versionMap.getConflictedVersionNumbers().size();
+    }
+
+    @Benchmark
+    public int versionTable() {
+        DependencyVersionTable versionTable = new DependencyVersionTable();
+        root.accept(versionTable);
+        return versionTable.getConflictedVersionNumbers().size();
+    }
+}
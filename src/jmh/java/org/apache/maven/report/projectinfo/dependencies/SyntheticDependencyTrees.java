@@ -0,0 +1,136 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.report.projectinfo.dependencies;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.maven.artifact.Artifact;
+import org.apache.maven.artifact.DefaultArtifact;
+import org.apache.maven.artifact.handler.DefaultArtifactHandler;
+import org.apache.maven.shared.dependency.graph.DependencyNode;
+import org.apache.maven.shared.dependency.graph.internal.DefaultDependencyNode;
+
+/**
+ * Generates synthetic dependency trees for the benchmarks.
+ */
+public final class SyntheticDependencyTrees {
+    private static final String[] SCOPES = {
+        Artifact.SCOPE_COMPILE, Artifact.SCOPE_RUNTIME, Artifact.SCOPE_TEST, Artifact.SCOPE_PROVIDED
+    };
+
+    private SyntheticDependencyTrees() {
+        // nop
+    }
+
+    /**
+     * Builds a tree breadth first: a small fan-out gives a deep tree, a large one a wide tree. One artifact out of
+     * two appears twice, as happens when the same dependency is reached through several paths.
+     *
+     * @param nodes the number of nodes of the tree, without the root.
+     * @param fanOut the number of children of each node.
+     * @return the root of the tree.
+     */
+    public static DependencyNode newTree(int nodes, int fanOut) {
+        return newTree(nodes, Integer.MAX_VALUE, fanOut, 1, 0);
+    }
+
+    /**
+     * Builds a tree breadth first, level by level down to the given depth, so the tree has less nodes than asked
+     * for when the depth is reached first. One artifact out of two appears twice, as happens when the same
+     * dependency is reached through several paths. With several versions, the two occurrences of an artifact have
+     * different versions, and so have the occurrences of an artifact in the trees of consecutive modules, as happens
+     * when the versions of a reactor don't converge.
+     *
+     * @param nodes the maximum number of nodes of the tree, without the root.
+     * @param depth the maximum depth of the tree, the children of the root being at depth 1.
+     * @param fanOut the number of children of each node.
+     * @param versions the number of versions of each artifact, <code>1</code> for a tree without conflicts.
+     * @param module the index of the module of the tree, which gives the root artifact and shifts the versions.
+     * @return the root of the tree.
+     */
+    public static DependencyNode newTree(int nodes, int depth, int fanOut, int versions, int module) {
+        DefaultDependencyNode root = new DefaultDependencyNode(null, newArtifact(-1 - module), null, null, null);
+
+        List<DefaultDependencyNode> level = new ArrayList<>();
+        level.add(root);
+        int count = 0;
+        for (int d = 0; d < depth && count < nodes && !level.isEmpty(); d++) {
+            List<DefaultDependencyNode> nextLevel = new ArrayList<>();
+            for (DefaultDependencyNode parent : level) {
+                List<DependencyNode> children = new ArrayList<>(fanOut);
+                for (int i = 0; i < fanOut && count < nodes; i++, count++) {
+                    int occurrence = count / (nodes / 2 + 1);
+                    Artifact artifact =
+                            newArtifact(count % (nodes / 2 + 1), "1." + ((occurrence + module) % versions));
+                    DefaultDependencyNode child = new DefaultDependencyNode(parent, artifact, null, null, null);
+                    children.add(child);
+                    nextLevel.add(child);
+                }
+                parent.setChildren(children);
+            }
+            level = nextLevel;
+        }
+
+        for (DefaultDependencyNode leaf : level) {
+            leaf.setChildren(new ArrayList<DependencyNode>());
+        }
+
+        return root;
+    }
+
+    /**
+     * Builds a set of artifacts: the artifacts of the ids up to <code>nodes / 2</code> are in the trees of
+     * <code>nodes</code> nodes and one version, the others are not.
+     *
+     * @param count the number of artifacts.
+     * @return the artifacts of the ids from <code>0</code> to <code>count - 1</code>.
+     */
+    public static List<Artifact> newArtifacts(int count) {
+        List<Artifact> artifacts = new ArrayList<>(count);
+        for (int id = 0; id < count; id++) {
+            artifacts.add(newArtifact(id));
+        }
+        return artifacts;
+    }
+
+    /**
+     * @param id the id of the artifact, the same id gives equal artifacts.
+     * @return a new jar artifact.
+     */
+    public static Artifact newArtifact(int id) {
+        return newArtifact(id, "1.0");
+    }
+
+    /**
+     * @param id the id of the artifact, the same id and version give equal artifacts.
+     * @param version not null
+     * @return a new jar artifact.
+     */
+    public static Artifact newArtifact(int id, String version) {
+        return new DefaultArtifact(
+                "org.example.group" + Math.abs(id % 100),
+                "artifact-" + id,
+                version,
+                SCOPES[Math.abs(id) % SCOPES.length],
+                "jar",
+                null,
+                new DefaultArtifactHandler("jar"));
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.report.projectinfo.dependencies.renderer;
+
+import java.util.Collections;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.maven.doxia.sink.impl.SinkAdapter;
+import org.apache.maven.plugin.logging.SystemStreamLog;
+import org.apache.maven.project.DefaultProjectBuildingRequest;
+import org.apache.maven.project.MavenProject;
+import org.apache.maven.report.projectinfo.BenchmarkStubs;
+import org.apache.maven.report.projectinfo.ProjectMetadataCache;
+import org.apache.maven.report.projectinfo.dependencies.Dependencies;
+import org.apache.maven.report.projectinfo.dependencies.DependenciesReportConfiguration;
+import org.apache.maven.report.projectinfo.dependencies.RepositoryUtils;
+import org.apache.maven.report.projectinfo.dependencies.SyntheticDependencyTrees;
+import org.apache.maven.shared.dependency.graph.DependencyNode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Rendering of the dependencies report, without file details, for deep and wide synthetic dependency trees.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class DependenciesRendererBenchmark {
+    /**
+     * Number of nodes of the tree.
+     */
+    @Param({"10000"})
+    private int nodes;
+
+    /**
+     * Number of children of each node: 3 for a deep tree, 100 for a wide one.
+     */
+    @Param({"3", "100"})
+    private int fanOut;
+
+    private MavenProject project;
+
+    private DependencyNode root;
+
+    @Setup
+    public void setUp() {
+        project = new MavenProject();
+        root = SyntheticDependencyTrees.newTree(nodes, fanOut);
+    }
+
+    @Benchmark
+    public void render() {
+        RepositoryUtils repoUtils = new RepositoryUtils(
+                new SystemStreamLog(),
+                BenchmarkStubs.projectBuilder(),
+                BenchmarkStubs.repositorySystem(),
+                null,
+                Collections.emptyList(),
+                Collections.emptyList(),
+                new DefaultProjectBuildingRequest(),
+                null,
+                new ProjectMetadataCache(ProjectMetadataCache.DEFAULT_MAX_ENTRIES));
+
+        new DependenciesRenderer(
+                        new SinkAdapter(),
+                        Locale.ENGLISH,
+                        BenchmarkStubs.i18n(),
+                        new SystemStreamLog(),
+                        new Dependencies(project, root, null),
+                        root,
+                        new DependenciesReportConfiguration(false, 1, 1),
+                        repoUtils,
+                        Collections.<String, String>emptyMap())
+                .render();
+    }
+}
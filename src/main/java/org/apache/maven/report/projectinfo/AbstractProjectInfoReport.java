@@ -33,6 +33,8 @@ import java.util.MissingResourceException;
 import java.util.ResourceBundle;
 
 import org.apache.maven.artifact.repository.ArtifactRepository;
+import org.apache.maven.doxia.sink.Sink;
+import org.apache.maven.doxia.sink.SinkFactory;
 import org.apache.maven.execution.MavenSession;
 import org.apache.maven.model.Plugin;
 import org.apache.maven.plugins.annotations.Component;
@@ -40,6 +42,7 @@ import org.apache.maven.plugins.annotations.Parameter;
 import org.apache.maven.project.MavenProject;
 import org.apache.maven.project.ProjectBuilder;
 import org.apache.maven.reporting.AbstractMavenReport;
+import org.apache.maven.reporting.MavenReportException;
 import org.apache.maven.repository.RepositorySystem;
 import org.apache.maven.settings.Settings;
 import org.apache.maven.shared.transfer.artifact.resolve.ArtifactResolver;
@@ -149,6 +152,33 @@ public abstract class AbstractProjectInfoReport extends AbstractMavenReport {
     @Parameter
     private List<LicenseMapping> licenseMappings;
 
+    /**
+     * Record the metrics of the report: its duration, the duration and number of sink events of each section, and
+     * the number and duration of the projects built, dependency graphs built, dependency files analyzed and remote
+     * contents fetched. They are written as JSON to {@link #metricsDirectory} and summarized in the log. The
+     * operations are counted on the caches shared by the reports, so in a parallel build they include the
+     * operations of the reports generated concurrently.
+     *
+     * @since 3.6.2
+     */
+    @Parameter(property = "mpir.metrics", defaultValue = "false")
+    private boolean metrics;
+
+    /**
+     * Directory of the metrics of the reports, one <code>&lt;report&gt;.json</code> file per report.
+     *
+     * @since 3.6.2
+     */
+    @Parameter(
+            property = "mpir.metricsDirectory",
+            defaultValue = "${project.build.directory}/project-info-reports-metrics")
+    private File metricsDirectory;
+
+    /**
+     * The metrics of the report being generated, null if they are not recorded.
+     */
+    private ReportMetrics reportMetrics;
+
     // ----------------------------------------------------------------------
     // Public methods
     // ----------------------------------------------------------------------
@@ -163,6 +193,26 @@ public abstract class AbstractProjectInfoReport extends AbstractMavenReport {
         return CATEGORY_PROJECT_INFORMATION;
     }
 
+    @Override
+    public void generate(Sink sink, SinkFactory sinkFactory, Locale locale) throws MavenReportException {
+        if (!metrics || sink == null) {
+            super.generate(sink, sinkFactory, locale);
+            return;
+        }
+
+        reportMetrics = new ReportMetrics(getOutputName(), project != null ? project.getId() : null);
+        SessionCounters before = new SessionCounters(session);
+        reportMetrics.start();
+        try {
+            super.generate(reportMetrics.instrument(sink), sinkFactory, locale);
+        } finally {
+            reportMetrics.stop();
+            new SessionCounters(session).addDifferences(before, reportMetrics);
+            writeReportMetrics(reportMetrics);
+            reportMetrics = null;
+        }
+    }
+
     // ----------------------------------------------------------------------
     // Protected methods
     // ----------------------------------------------------------------------
@@ -200,6 +250,39 @@ public abstract class AbstractProjectInfoReport extends AbstractMavenReport {
         return reactorProjects;
     }
 
+    /**
+     * @return the cache of the projects built from the repository, shared by all the reports of the session.
+     * @since 3.6.2
+     */
+    protected ProjectMetadataCache getProjectMetadataCache() {
+        return ProjectMetadataCache.getInstance(session);
+    }
+
+    /**
+     * @return the cache of the dependency graphs of the projects, shared by all the reports of the session.
+     * @since 3.6.2
+     */
+    protected DependencyGraphCache getDependencyGraphCache() {
+        return DependencyGraphCache.getInstance(session);
+    }
+
+    /**
+     * @return the index of the reactor projects, shared by all the reports of the session.
+     * @since 3.6.2
+     */
+    protected ReactorProjectIndex getReactorProjectIndex() {
+        return ReactorProjectIndex.getInstance(session, reactorProjects);
+    }
+
+    /**
+     * @return the metrics of the report being generated, to add its own operations to, or <code>null</code> if they
+     * are not recorded.
+     * @since 3.6.2
+     */
+    protected ReportMetrics getReportMetrics() {
+        return reportMetrics;
+    }
+
     /**
      * @param pluginId The id of the plugin
      * @return The information about the plugin.
@@ -286,6 +369,86 @@ public abstract class AbstractProjectInfoReport extends AbstractMavenReport {
         return getI18nString(locale, "description");
     }
 
+    private void writeReportMetrics(ReportMetrics metrics) {
+        if (metrics.getSinkEvents() == 0) {
+            // the report was not generated
+            return;
+        }
+
+        if (metricsDirectory != null) {
+            File file = new File(metricsDirectory, metrics.getReport() + ".json");
+            try {
+                metrics.write(file);
+            } catch (IOException e) {
+                getLog().warn("Unable to write the metrics of the report to " + file + ": " + e.getMessage());
+            }
+        }
+
+        for (String line : metrics.getSummary()) {
+            getLog().info(line);
+        }
+    }
+
+    /**
+     * Counters of the caches shared by the reports of the session, whose differences before and after the generation
+     * of a report are the operations performed by the report.
+     */
+    private static class SessionCounters {
+        private final long projectBuilds;
+
+        private final long projectBuildNanos;
+
+        private final long projectCacheHits;
+
+        private final long graphBuilds;
+
+        private final long graphBuildNanos;
+
+        private final long graphCacheHits;
+
+        private final long licenseFetches;
+
+        private final long licenseFetchNanos;
+
+        private final long contentFetches;
+
+        SessionCounters(MavenSession session) {
+            ProjectMetadataCache projectMetadataCache = ProjectMetadataCache.getInstance(session);
+            projectBuilds = projectMetadataCache.getMisses();
+            projectBuildNanos = projectMetadataCache.getBuildNanos();
+            projectCacheHits = projectMetadataCache.getHits();
+
+            DependencyGraphCache dependencyGraphCache = DependencyGraphCache.getInstance(session);
+            graphBuilds = dependencyGraphCache.getMisses();
+            graphBuildNanos = dependencyGraphCache.getBuildNanos();
+            graphCacheHits = dependencyGraphCache.getHits();
+
+            LicenseFetcher licenseFetcher = LicenseFetcher.getInstance(session);
+            licenseFetches = licenseFetcher.getMisses();
+            licenseFetchNanos = licenseFetcher.getFetchNanos();
+
+            contentFetches = ProjectInfoReportUtils.getContentFetches().getExecutions();
+        }
+
+        void addDifferences(SessionCounters before, ReportMetrics metrics) {
+            metrics.add(
+                    "projectBuilds",
+                    projectBuilds - before.projectBuilds,
+                    projectBuildNanos - before.projectBuildNanos);
+            metrics.add("projectCacheHits", projectCacheHits - before.projectCacheHits);
+            metrics.add(
+                    "dependencyGraphBuilds",
+                    graphBuilds - before.graphBuilds,
+                    graphBuildNanos - before.graphBuildNanos);
+            metrics.add("dependencyGraphCacheHits", graphCacheHits - before.graphCacheHits);
+            metrics.add(
+                    "licenseFetches",
+                    licenseFetches - before.licenseFetches,
+                    licenseFetchNanos - before.licenseFetchNanos);
+            metrics.add("contentFetches", contentFetches - before.contentFetches);
+        }
+    }
+
     private static class CustomI18N implements I18N {
         private final MavenProject project;
 
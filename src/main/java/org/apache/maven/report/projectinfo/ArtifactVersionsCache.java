@@ -0,0 +1,321 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.report.projectinfo;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.maven.artifact.Artifact;
+import org.apache.maven.artifact.metadata.ArtifactMetadataRetrievalException;
+import org.apache.maven.artifact.metadata.ArtifactMetadataSource;
+import org.apache.maven.artifact.repository.ArtifactRepository;
+import org.apache.maven.artifact.versioning.ArtifactVersion;
+import org.apache.maven.artifact.versioning.DefaultArtifactVersion;
+import org.apache.maven.execution.MavenSession;
+import org.codehaus.plexus.util.StringUtils;
+import org.eclipse.aether.RepositorySystemSession;
+import org.eclipse.aether.SessionData;
+
+/**
+ * Cache of the available versions of the artifacts, as retrieved from the repository metadata, shared by all the
+ * reports executed in a {@link MavenSession}. Entries are keyed by <code>groupId:artifactId</code> and the repositories
+ * they are retrieved from, and are retrieved again once older than the time to live.
+ * <p>
+ * The entries can also be kept in a directory across builds: they are then used instead of a retrieval while younger
+ * than the time to live, whatever their age in offline mode, and when the retrieval fails. Concurrent retrievals of
+ * the same versions are coalesced into one.
+ *
+ * @since 3.6.2
+ */
+public class ArtifactVersionsCache {
+    private static final String SESSION_KEY = ArtifactVersionsCache.class.getName();
+
+    private static final String KEY = "key";
+
+    private static final String RETRIEVED = "retrieved";
+
+    private static final String VERSIONS = "versions";
+
+    private final CacheDirectory persistentEntries;
+
+    private final long timeToLive;
+
+    private final boolean offline;
+
+    private final ConcurrentMap<String, Entry> entries = new ConcurrentHashMap<>();
+
+    private final SingleFlight<String, Entry> retrievals = new SingleFlight<>();
+
+    private final AtomicLong hits = new AtomicLong();
+
+    private final AtomicLong persistentHits = new AtomicLong();
+
+    private final AtomicLong misses = new AtomicLong();
+
+    private final AtomicLong staleHits = new AtomicLong();
+
+    /**
+     * @param directory the directory of the entries kept across builds, null to keep them for the session only.
+     * @param timeToLive the time in milliseconds during which an entry is used without retrieving it again.
+     * @param offline <code>true</code> to use the entries of the directory whatever their age.
+     */
+    public ArtifactVersionsCache(File directory, long timeToLive, boolean offline) {
+        this.persistentEntries = directory != null ? new CacheDirectory(directory) : null;
+        this.timeToLive = timeToLive;
+        this.offline = offline;
+    }
+
+    /**
+     * @param session the current session, could be null.
+     * @param directory the directory of the entries kept across builds, null to keep them for the session only.
+     * @param timeToLive the time in milliseconds during which an entry is used without retrieving it again.
+     * @return the cache shared by all the reports of the session, created with the given configuration by the first
+     * report asking for it, or a new one if the session can't hold it.
+     */
+    public static ArtifactVersionsCache getInstance(MavenSession session, File directory, long timeToLive) {
+        boolean offline = session != null && session.isOffline();
+        RepositorySystemSession repositorySession = session != null ? session.getRepositorySession() : null;
+        if (repositorySession == null || repositorySession.getData() == null) {
+            return new ArtifactVersionsCache(directory, timeToLive, offline);
+        }
+
+        SessionData data = repositorySession.getData();
+        Object cache = data.get(SESSION_KEY);
+        if (cache == null) {
+            data.set(SESSION_KEY, null, new ArtifactVersionsCache(directory, timeToLive, offline));
+            cache = data.get(SESSION_KEY);
+        }
+
+        if (cache instanceof ArtifactVersionsCache) {
+            return (ArtifactVersionsCache) cache;
+        }
+
+        // stored by another version of the plugin
+        return new ArtifactVersionsCache(directory, timeToLive, offline);
+    }
+
+    /**
+     * Get the available versions of an artifact, retrieving them unless they are cached.
+     *
+     * @param artifactMetadataSource not null
+     * @param artifact not null
+     * @param localRepository not null
+     * @param remoteRepositories not null
+     * @return a new list of the available versions, in the order of the retrieval.
+     * @throws ArtifactMetadataRetrievalException if the versions are neither cached nor retrievable.
+     * @see ArtifactMetadataSource#retrieveAvailableVersions(Artifact, ArtifactRepository, List)
+     */
+    public List<ArtifactVersion> getAvailableVersions(
+            final ArtifactMetadataSource artifactMetadataSource,
+            final Artifact artifact,
+            final ArtifactRepository localRepository,
+            final List<ArtifactRepository> remoteRepositories)
+            throws ArtifactMetadataRetrievalException {
+        final String key = getKey(artifact, localRepository, remoteRepositories);
+
+        Entry entry = entries.get(key);
+        if (entry != null && isFresh(entry.retrieved)) {
+            hits.incrementAndGet();
+            return entry.toVersions();
+        }
+
+        try {
+            entry = retrievals.execute(key, new Callable<Entry>() {
+                public Entry call() throws ArtifactMetadataRetrievalException {
+                    return retrieve(artifactMetadataSource, artifact, localRepository, remoteRepositories, key);
+                }
+            });
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof ArtifactMetadataRetrievalException) {
+                throw (ArtifactMetadataRetrievalException) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+
+        return entry.toVersions();
+    }
+
+    /**
+     * @return the number of lookups served from the session.
+     */
+    public long getHits() {
+        return hits.get();
+    }
+
+    /**
+     * @return the number of lookups served from the directory.
+     */
+    public long getPersistentHits() {
+        return persistentHits.get();
+    }
+
+    /**
+     * @return the number of lookups which asked the repositories for the versions.
+     */
+    public long getMisses() {
+        return misses.get();
+    }
+
+    /**
+     * @return the number of lookups served from expired entries of the directory because the retrieval failed.
+     */
+    public long getStaleHits() {
+        return staleHits.get();
+    }
+
+    /**
+     * @return the number of lookups which waited for the retrieval of the same versions by another thread.
+     */
+    public long getCoalesced() {
+        return retrievals.getCoalesced();
+    }
+
+    @Override
+    public String toString() {
+        return "Artifact versions cache: " + getHits() + " hits, " + getPersistentHits() + " persistent hits, "
+                + getMisses() + " misses, " + getStaleHits() + " stale hits, " + getCoalesced() + " coalesced";
+    }
+
+    // ----------------------------------------------------------------------
+    // Private methods
+    // ----------------------------------------------------------------------
+
+    private Entry retrieve(
+            ArtifactMetadataSource artifactMetadataSource,
+            Artifact artifact,
+            ArtifactRepository localRepository,
+            List<ArtifactRepository> remoteRepositories,
+            String key)
+            throws ArtifactMetadataRetrievalException {
+        // retrieved by another thread since the lookup
+        Entry entry = entries.get(key);
+        if (entry != null && isFresh(entry.retrieved)) {
+            hits.incrementAndGet();
+            return entry;
+        }
+
+        String name = CacheDirectory.getName(key);
+        Entry stored = readPersistentEntry(name, key);
+        if (stored != null && (offline || isFresh(stored.retrieved))) {
+            persistentHits.incrementAndGet();
+            entries.put(key, stored);
+            return stored;
+        }
+
+        misses.incrementAndGet();
+        List<ArtifactVersion> versions;
+        try {
+            versions = artifactMetadataSource.retrieveAvailableVersions(artifact, localRepository, remoteRepositories);
+        } catch (ArtifactMetadataRetrievalException e) {
+            if (stored == null) {
+                throw e;
+            }
+
+            // not retried in this session
+            staleHits.incrementAndGet();
+            entry = new Entry(stored.versions, System.currentTimeMillis());
+            entries.put(key, entry);
+            return entry;
+        }
+
+        List<String> versionStrings = new ArrayList<>(versions.size());
+        for (ArtifactVersion version : versions) {
+            versionStrings.add(version.toString());
+        }
+        entry = new Entry(versionStrings, System.currentTimeMillis());
+        entries.put(key, entry);
+
+        if (persistentEntries != null) {
+            Properties properties = new Properties();
+            properties.setProperty(KEY, key);
+            properties.setProperty(RETRIEVED, String.valueOf(entry.retrieved));
+            properties.setProperty(VERSIONS, StringUtils.join(versionStrings.iterator(), ","));
+            persistentEntries.writeProperties(name, properties);
+        }
+
+        return entry;
+    }
+
+    private Entry readPersistentEntry(String name, String key) {
+        Properties properties = persistentEntries != null ? persistentEntries.readProperties(name) : null;
+        if (properties == null || !key.equals(properties.getProperty(KEY))) {
+            return null;
+        }
+
+        try {
+            long retrieved = Long.parseLong(properties.getProperty(RETRIEVED, "0"));
+            String versions = properties.getProperty(VERSIONS, "");
+            return new Entry(
+                    versions.isEmpty() ? Collections.<String>emptyList() : Arrays.asList(versions.split(",")),
+                    retrieved);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private boolean isFresh(long retrieved) {
+        return System.currentTimeMillis() - retrieved < timeToLive;
+    }
+
+    private static String getKey(
+            Artifact artifact, ArtifactRepository localRepository, List<ArtifactRepository> remoteRepositories) {
+        StringBuilder key = new StringBuilder(artifact.getGroupId())
+                .append(':')
+                .append(artifact.getArtifactId())
+                .append('|')
+                .append(localRepository != null ? localRepository.getBasedir() : "");
+        if (remoteRepositories != null) {
+            for (ArtifactRepository repository : remoteRepositories) {
+                key.append('|').append(repository.getId()).append('=').append(repository.getUrl());
+            }
+        }
+        return key.toString();
+    }
+
+    /**
+     * The versions of an artifact and the time they were retrieved.
+     */
+    private static class Entry {
+        private final List<String> versions;
+
+        private final long retrieved;
+
+        Entry(List<String> versions, long retrieved) {
+            this.versions = versions;
+            this.retrieved = retrieved;
+        }
+
+        List<ArtifactVersion> toVersions() {
+            List<ArtifactVersion> artifactVersions = new ArrayList<>(versions.size());
+            for (String version : versions) {
+                artifactVersions.add(new DefaultArtifactVersion(version));
+            }
+            return artifactVersions;
+        }
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.report.projectinfo;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Properties;
+
+/**
+ * Directory of the entries of a cache kept across builds. An entry is made of properties and an optional content,
+ * stored in files named after the hash of its key. The files are written aside and then moved, so that concurrent
+ * builds never read a partially written entry. Failures to write are ignored, the entry is just not cached.
+ *
+ * @since 3.6.2
+ */
+final class CacheDirectory {
+    private final File directory;
+
+    /**
+     * @param directory the directory of the entries, created when needed, not null.
+     */
+    CacheDirectory(File directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * @param key not null
+     * @return the name of the files of the entry of the key.
+     */
+    static String getName(String key) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-1");
+            byte[] hash = digest.digest(key.getBytes(StandardCharsets.UTF_8));
+
+            StringBuilder name = new StringBuilder(hash.length * 2);
+            for (byte b : hash) {
+                name.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+            }
+            return name.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * @param name the name of the entry, not null.
+     * @return the properties of the entry, or <code>null</code> if there is none or it can't be read.
+     */
+    Properties readProperties(String name) {
+        File file = new File(directory, name + ".properties");
+        if (!file.isFile()) {
+            return null;
+        }
+
+        Properties properties = new Properties();
+        try (InputStream in = Files.newInputStream(file.toPath())) {
+            properties.load(in);
+        } catch (IOException e) {
+            return null;
+        }
+        return properties;
+    }
+
+    /**
+     * @param name the name of the entry, not null.
+     * @param properties not null
+     */
+    void writeProperties(String name, Properties properties) {
+        try {
+            File tmp = createTempFile();
+            try (OutputStream out = Files.newOutputStream(tmp.toPath())) {
+                properties.store(out, null);
+            }
+            move(tmp, new File(directory, name + ".properties"));
+        } catch (IOException e) {
+            // not cached
+        }
+    }
+
+    /**
+     * @param name the name of the entry, not null.
+     * @return <code>true</code> if the entry has a content.
+     */
+    boolean hasContent(String name) {
+        return new File(directory, name + ".content").isFile();
+    }
+
+    /**
+     * @param name the name of the entry, not null.
+     * @return the content of the entry.
+     * @throws IOException if the entry has no content or it can't be read.
+     */
+    byte[] readContent(String name) throws IOException {
+        return Files.readAllBytes(new File(directory, name + ".content").toPath());
+    }
+
+    /**
+     * @param name the name of the entry, not null.
+     * @param content not null
+     */
+    void writeContent(String name, byte[] content) {
+        try {
+            File tmp = createTempFile();
+            Files.write(tmp.toPath(), content);
+            move(tmp, new File(directory, name + ".content"));
+        } catch (IOException e) {
+            // not cached
+        }
+    }
+
+    private File createTempFile() throws IOException {
+        Files.createDirectories(directory.toPath());
+        return Files.createTempFile(directory.toPath(), "entry", ".tmp").toFile();
+    }
+
+    private static void move(File source, File target) throws IOException {
+        try {
+            Files.move(
+                    source.toPath(),
+                    target.toPath(),
+                    StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source.toPath(), target.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(source.toPath());
+        }
+    }
+}
@@ -30,8 +30,6 @@ import java.util.Locale;
 
 import org.apache.maven.artifact.Artifact;
 import org.apache.maven.artifact.repository.metadata.RepositoryMetadataManager;
-import org.apache.maven.artifact.resolver.filter.ArtifactFilter;
-import org.apache.maven.artifact.resolver.filter.ScopeArtifactFilter;
 import org.apache.maven.plugins.annotations.Component;
 import org.apache.maven.plugins.annotations.Mojo;
 import org.apache.maven.plugins.annotations.Parameter;
@@ -40,6 +38,7 @@ import org.apache.maven.project.DefaultProjectBuildingRequest;
 import org.apache.maven.project.ProjectBuildingRequest;
 import org.apache.maven.report.projectinfo.dependencies.Dependencies;
 import org.apache.maven.report.projectinfo.dependencies.DependenciesReportConfiguration;
+import org.apache.maven.report.projectinfo.dependencies.JarDetailsCache;
 import org.apache.maven.report.projectinfo.dependencies.RepositoryUtils;
 import org.apache.maven.report.projectinfo.dependencies.renderer.DependenciesRenderer;
 import org.apache.maven.shared.dependency.graph.DependencyGraphBuilder;
@@ -104,6 +103,59 @@ public class DependenciesReport extends AbstractProjectInfoReport {
     @Parameter(property = "dependency.details.enabled", defaultValue = "true")
     private boolean dependencyDetailsEnabled;
 
+    /**
+     * Number of threads used to analyze the dependency files when {@link #dependencyDetailsEnabled} is set.
+     * A value of <code>0</code> uses one thread per available processor.
+     *
+     * @since 3.6.2
+     */
+    @Parameter(property = "dependency.details.threads", defaultValue = "0")
+    private int dependencyDetailsThreads;
+
+    /**
+     * Number of threads used to build the projects of the dependencies from the repository before rendering the
+     * dependency tables. A value of <code>0</code> uses one thread per available processor.
+     *
+     * @since 3.6.2
+     */
+    @Parameter(property = "dependency.metadata.threads", defaultValue = "0")
+    private int dependencyMetadataThreads;
+
+    /**
+     * Keep the file details of the dependencies in a persistent cache, so that unchanged dependency files are not
+     * analyzed again on every build.
+     *
+     * @since 3.6.2
+     */
+    @Parameter(property = "dependency.details.cache.enabled", defaultValue = "true")
+    private boolean dependencyDetailsCacheEnabled;
+
+    /**
+     * Directory of the persistent dependency file details cache. Defaults to
+     * <code>.cache/maven-project-info-reports-plugin</code> in the local repository.
+     *
+     * @since 3.6.2
+     */
+    @Parameter(property = "dependency.details.cache.directory")
+    private File dependencyDetailsCacheDirectory;
+
+    /**
+     * Maximum number of dependency files kept in the persistent cache, the least recently used ones are evicted.
+     *
+     * @since 3.6.2
+     */
+    @Parameter(property = "dependency.details.cache.maxEntries", defaultValue = "10000")
+    private int dependencyDetailsCacheMaxEntries;
+
+    /**
+     * Also validate the persistent cache entries against the SHA-1 checksum of the dependency files, instead of
+     * their size and last modification time only.
+     *
+     * @since 3.6.2
+     */
+    @Parameter(property = "dependency.details.cache.checksum", defaultValue = "false")
+    private boolean dependencyDetailsCacheChecksum;
+
     // ----------------------------------------------------------------------
     // Public methods
     // ----------------------------------------------------------------------
@@ -143,13 +195,17 @@ public class DependenciesReport extends AbstractProjectInfoReport {
                 remoteRepositories,
                 pluginRepositories,
                 buildingRequest,
-                repositoryMetadataManager);
+                repositoryMetadataManager,
+                getProjectMetadataCache());
 
         DependencyNode dependencyNode = resolveProject();
 
-        Dependencies dependencies = new Dependencies(project, dependencyNode, classesAnalyzer);
+        JarDetailsCache jarDetailsCache = createJarDetailsCache();
 
-        DependenciesReportConfiguration config = new DependenciesReportConfiguration(dependencyDetailsEnabled);
+        Dependencies dependencies = new Dependencies(project, dependencyNode, classesAnalyzer, jarDetailsCache);
+
+        DependenciesReportConfiguration config = new DependenciesReportConfiguration(
+                dependencyDetailsEnabled, dependencyDetailsThreads, dependencyMetadataThreads);
 
         DependenciesRenderer r = new DependenciesRenderer(
                 getSink(),
@@ -160,11 +216,19 @@ public class DependenciesReport extends AbstractProjectInfoReport {
                 dependencyNode,
                 config,
                 repoUtils,
-                repositorySystem,
-                projectBuilder,
-                buildingRequest,
                 getLicenseMappings());
         r.render();
+
+        if (getReportMetrics() != null) {
+            getReportMetrics().add("jarAnalyses", dependencies.getJarAnalyses(), dependencies.getJarAnalysisNanos());
+        }
+
+        getLog().debug(repoUtils.getProjectMetadataCache().toString());
+        getLog().debug(getDependencyGraphCache().toString());
+
+        if (jarDetailsCache != null) {
+            jarDetailsCache.save();
+        }
     }
 
     /**
@@ -184,15 +248,35 @@ public class DependenciesReport extends AbstractProjectInfoReport {
     // ----------------------------------------------------------------------
 
     /**
-     * @return resolve the dependency tree
+     * @return the persistent dependency file details cache, or <code>null</code> if it is disabled.
+     */
+    private JarDetailsCache createJarDetailsCache() {
+        if (!dependencyDetailsEnabled || !dependencyDetailsCacheEnabled) {
+            return null;
+        }
+
+        File cacheDirectory = dependencyDetailsCacheDirectory;
+        if (cacheDirectory == null) {
+            cacheDirectory = new File(localRepository.getBasedir(), ".cache/maven-project-info-reports-plugin");
+        }
+
+        return new JarDetailsCache(
+                new File(cacheDirectory, "jar-details.properties"),
+                dependencyDetailsCacheMaxEntries,
+                dependencyDetailsCacheChecksum,
+                getLog());
+    }
+
+    /**
+     * @return resolve the dependency tree, once per session.
      */
     private DependencyNode resolveProject() {
         try {
-            ArtifactFilter artifactFilter = new ScopeArtifactFilter(Artifact.SCOPE_TEST);
             ProjectBuildingRequest buildingRequest =
                     new DefaultProjectBuildingRequest(getSession().getProjectBuildingRequest());
             buildingRequest.setProject(project);
-            return dependencyGraphBuilder.buildDependencyGraph(buildingRequest, artifactFilter);
+            return getDependencyGraphCache()
+                    .buildDependencyGraph(dependencyGraphBuilder, buildingRequest, Artifact.SCOPE_TEST);
         } catch (DependencyGraphBuilderException e) {
             getLog().error("Unable to build dependency tree.", e);
             return null;
@@ -19,44 +19,39 @@
 package org.apache.maven.report.projectinfo;
 
 import java.util.ArrayList;
-import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
-import java.util.HashSet;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
-import java.util.Set;
 import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 
 import org.apache.maven.artifact.Artifact;
-import org.apache.maven.artifact.resolver.filter.ArtifactFilter;
 import org.apache.maven.doxia.sink.Sink;
 import org.apache.maven.doxia.sink.SinkEventAttributes;
 import org.apache.maven.doxia.sink.impl.SinkEventAttributeSet;
 import org.apache.maven.model.Dependency;
 import org.apache.maven.plugins.annotations.Component;
 import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
 import org.apache.maven.project.DefaultProjectBuildingRequest;
 import org.apache.maven.project.MavenProject;
 import org.apache.maven.project.ProjectBuildingRequest;
-import org.apache.maven.report.projectinfo.dependencies.DependencyVersionMap;
+import org.apache.maven.report.projectinfo.dependencies.DependencyCoordinates;
+import org.apache.maven.report.projectinfo.dependencies.DependencyGraphIndex;
+import org.apache.maven.report.projectinfo.dependencies.DependencyVersionTable;
 import org.apache.maven.report.projectinfo.dependencies.SinkSerializingDependencyNodeVisitor;
 import org.apache.maven.reporting.MavenReportException;
-import org.apache.maven.shared.artifact.filter.StrictPatternIncludesArtifactFilter;
 import org.apache.maven.shared.dependency.graph.DependencyCollectorBuilder;
 import org.apache.maven.shared.dependency.graph.DependencyCollectorBuilderException;
 import org.apache.maven.shared.dependency.graph.DependencyNode;
-import org.apache.maven.shared.dependency.graph.filter.AncestorOrSelfDependencyNodeFilter;
-import org.apache.maven.shared.dependency.graph.filter.AndDependencyNodeFilter;
-import org.apache.maven.shared.dependency.graph.filter.ArtifactDependencyNodeFilter;
-import org.apache.maven.shared.dependency.graph.filter.DependencyNodeFilter;
 import org.apache.maven.shared.dependency.graph.traversal.BuildingDependencyNodeVisitor;
-import org.apache.maven.shared.dependency.graph.traversal.CollectingDependencyNodeVisitor;
 import org.apache.maven.shared.dependency.graph.traversal.DependencyNodeVisitor;
-import org.apache.maven.shared.dependency.graph.traversal.FilteringDependencyNodeVisitor;
 
 /**
  * Generates the Project Dependency Convergence report for (reactor) builds.
@@ -90,10 +85,24 @@ public class DependencyConvergenceReport extends AbstractProjectInfoReport {
     @Component
     private DependencyCollectorBuilder dependencyCollectorBuilder;
 
-    private ArtifactFilter filter = null;
+    /**
+     * Number of threads used to collect the dependency trees of the reactor projects. A value of <code>0</code> uses
+     * one thread per available processor.
+     *
+     * @since 3.6.2
+     */
+    @Parameter(property = "dependency.convergence.threads", defaultValue = "0")
+    private int convergenceThreads;
+
+    private ReactorProjectIndex reactorProjectIndex;
 
     private Map<MavenProject, DependencyNode> projectMap = new HashMap<>();
 
+    /**
+     * The indexes of the dependency trees of {@link #projectMap}, built when first serialized.
+     */
+    private Map<DependencyNode, DependencyGraphIndex> graphIndexes = new HashMap<>();
+
     // ----------------------------------------------------------------------
     // Public methods
     // ----------------------------------------------------------------------
@@ -172,43 +181,6 @@ public class DependencyConvergenceReport extends AbstractProjectInfoReport {
     // Private methods
     // ----------------------------------------------------------------------
 
-    /**
-     * Get snapshots dependencies from all dependency map.
-     *
-     * @param dependencyMap
-     * @return snapshots dependencies
-     */
-    private List<ReverseDependencyLink> getSnapshotDependencies(
-            Map<String, List<ReverseDependencyLink>> dependencyMap) {
-        List<ReverseDependencyLink> snapshots = new ArrayList<>();
-        for (Map.Entry<String, List<ReverseDependencyLink>> entry : dependencyMap.entrySet()) {
-            List<ReverseDependencyLink> depList = entry.getValue();
-            Map<String, List<ReverseDependencyLink>> artifactMap = getSortedUniqueArtifactMap(depList);
-            for (Map.Entry<String, List<ReverseDependencyLink>> artEntry : artifactMap.entrySet()) {
-                String version = artEntry.getKey();
-                boolean isReactorProject = false;
-
-                Iterator<ReverseDependencyLink> iterator = artEntry.getValue().iterator();
-                // It if enough to check just the first dependency here, because
-                // the dependency is the same in all the RDLs in the List. It's the
-                // reactorProjects that are different.
-                ReverseDependencyLink rdl = null;
-                if (iterator.hasNext()) {
-                    rdl = iterator.next();
-                    if (isReactorProject(rdl.getDependency())) {
-                        isReactorProject = true;
-                    }
-                }
-
-                if (version.endsWith("-SNAPSHOT") && !isReactorProject && rdl != null) {
-                    snapshots.add(rdl);
-                }
-            }
-        }
-
-        return snapshots;
-    }
-
     /**
      * Generate the convergence table for all dependencies
      *
@@ -378,50 +350,24 @@ public class DependencyConvergenceReport extends AbstractProjectInfoReport {
     }
 
     /**
-     * Serializes the specified dependency tree to a string.
+     * Serializes the paths of the specified dependency tree to the nodes of a given artifact.
      *
      * @param rootNode the dependency tree root node to serialize
-     * @return the serialized dependency tree
+     * @param key the <code>groupId:artifactId:type:version</code> of the artifact
+     * @param sink the sink to serialize to
      */
     private void serializeDependencyTree(DependencyNode rootNode, String key, Sink sink) {
-        DependencyNodeVisitor visitor = getSerializingDependencyNodeVisitor(sink);
-
-        visitor = new BuildingDependencyNodeVisitor(visitor);
-
-        DependencyNodeFilter nodeFilter = createDependencyNodeFilter(key);
-
-        if (nodeFilter != null) {
-            CollectingDependencyNodeVisitor collectingVisitor = new CollectingDependencyNodeVisitor();
-            DependencyNodeVisitor firstPassVisitor = new FilteringDependencyNodeVisitor(collectingVisitor, nodeFilter);
-            rootNode.accept(firstPassVisitor);
-
-            DependencyNodeFilter secondPassFilter =
-                    new AncestorOrSelfDependencyNodeFilter(collectingVisitor.getNodes());
-            visitor = new FilteringDependencyNodeVisitor(visitor, secondPassFilter);
+        DependencyGraphIndex graphIndex = graphIndexes.get(rootNode);
+        if (graphIndex == null) {
+            graphIndex = new DependencyGraphIndex(rootNode);
+            graphIndexes.put(rootNode, graphIndex);
         }
 
-        rootNode.accept(visitor);
-    }
-
-    /**
-     * Gets the dependency node filter to use when serializing the dependency graph.
-     *
-     * @return the dependency node filter, or <code>null</code> if none required
-     */
-    private DependencyNodeFilter createDependencyNodeFilter(String includes) {
-        List<DependencyNodeFilter> filters = new ArrayList<>();
-
-        // filter includes
-        if (includes != null) {
-            List<String> patterns = Arrays.asList(includes.split(","));
-
-            getLog().debug("+ Filtering dependency tree by artifact include patterns: " + patterns);
+        DependencyNodeVisitor visitor = getSerializingDependencyNodeVisitor(sink);
 
-            ArtifactFilter artifactFilter = new StrictPatternIncludesArtifactFilter(patterns);
-            filters.add(new ArtifactDependencyNodeFilter(artifactFilter));
-        }
+        visitor = new BuildingDependencyNodeVisitor(visitor);
 
-        return filters.isEmpty() ? null : new AndDependencyNodeFilter(filters);
+        graphIndex.accept(visitor, graphIndex.getAncestorsOrSelf(graphIndex.getNodeIds(key)));
     }
 
     /**
@@ -625,14 +571,15 @@ public class DependencyConvergenceReport extends AbstractProjectInfoReport {
      * @return true if and only if the dependency is a reactor project
      */
     private boolean isReactorProject(Dependency dependency) {
-        for (MavenProject mavenProject : reactorProjects) {
-            if (mavenProject.getGroupId().equals(dependency.getGroupId())
-                    && mavenProject.getArtifactId().equals(dependency.getArtifactId())) {
-                if (getLog().isDebugEnabled()) {
-                    getLog().debug(dependency + " is a reactor project");
-                }
-                return true;
+        if (reactorProjectIndex == null) {
+            reactorProjectIndex = getReactorProjectIndex();
+        }
+
+        if (reactorProjectIndex.contains(dependency.getGroupId(), dependency.getArtifactId())) {
+            if (getLog().isDebugEnabled()) {
+                getLog().debug(dependency + " is a reactor project");
             }
+            return true;
         }
         return false;
     }
@@ -675,25 +622,41 @@ public class DependencyConvergenceReport extends AbstractProjectInfoReport {
      * @throws MavenReportException
      */
     private DependencyAnalyzeResult analyzeDependencyTree() throws MavenReportException {
+        return analyzeDependencyTree(collectDependencyGraphs());
+    }
+
+    /**
+     * Analyze the given dependency trees of the reactor projects.
+     *
+     * @param nodes the root nodes of the dependency trees, in the order of the reactor projects.
+     * @return DependencyAnalyzeResult contains conflicting dependencies map, snapshot dependencies map and all
+     * dependencies map.
+     * @see #analyzeDependencyTree()
+     * @since 3.6.2
+     */
+    DependencyAnalyzeResult analyzeDependencyTree(List<DependencyNode> nodes) {
         Map<String, List<ReverseDependencyLink>> conflictingDependencyMap = new TreeMap<>();
         Map<String, List<ReverseDependencyLink>> allDependencies = new TreeMap<>();
+        DependencyCoordinates coordinates = new DependencyCoordinates();
+        BitSet allVersions = new BitSet();
+        List<ReverseDependencyLink> snapshots = new ArrayList<>();
 
-        ProjectBuildingRequest buildingRequest =
-                new DefaultProjectBuildingRequest(getSession().getProjectBuildingRequest());
-
-        for (MavenProject reactorProject : reactorProjects) {
-            buildingRequest.setProject(reactorProject);
-
-            DependencyNode node = getNode(buildingRequest);
+        // merge in the reactor order, whatever the order of the collections
+        for (int i = 0; i < reactorProjects.size(); i++) {
+            MavenProject reactorProject = reactorProjects.get(i);
+            DependencyNode node = nodes.get(i);
 
             this.projectMap.put(reactorProject, node);
 
-            getConflictingDependencyMap(conflictingDependencyMap, reactorProject, node);
+            DependencyVersionTable versionTable = new DependencyVersionTable(coordinates);
+            node.accept(versionTable);
 
-            getAllDependencyMap(allDependencies, reactorProject, node);
+            getConflictingDependencyMap(conflictingDependencyMap, reactorProject, versionTable);
+
+            getAllDependencyMap(allDependencies, allVersions, snapshots, reactorProject, versionTable);
         }
 
-        return populateDependencyAnalyzeResult(conflictingDependencyMap, allDependencies);
+        return populateDependencyAnalyzeResult(conflictingDependencyMap, allDependencies, allVersions, snapshots);
     }
 
     /**
@@ -701,18 +664,32 @@ public class DependencyConvergenceReport extends AbstractProjectInfoReport {
      *
      * @param conflictingDependencyMap
      * @param allDependencies
+     * @param allVersions the ids of the <code>groupId:artifactId:version</code> in <code>allDependencies</code>
+     * @param snapshots
      * @return DependencyAnalyzeResult contains conflicting dependencies map, snapshot dependencies map and all
      * dependencies map.
      */
     private DependencyAnalyzeResult populateDependencyAnalyzeResult(
             Map<String, List<ReverseDependencyLink>> conflictingDependencyMap,
-            Map<String, List<ReverseDependencyLink>> allDependencies) {
+            Map<String, List<ReverseDependencyLink>> allDependencies,
+            BitSet allVersions,
+            List<ReverseDependencyLink> snapshots) {
         DependencyAnalyzeResult dependencyResult = new DependencyAnalyzeResult();
 
         dependencyResult.setAll(allDependencies);
+        dependencyResult.setArtifactCount(allVersions.cardinality());
         dependencyResult.setConflicting(conflictingDependencyMap);
 
-        List<ReverseDependencyLink> snapshots = getSnapshotDependencies(allDependencies);
+        // in the order of the groupId:artifactId, then of the version
+        Collections.sort(snapshots, new Comparator<ReverseDependencyLink>() {
+            public int compare(ReverseDependencyLink l1, ReverseDependencyLink l2) {
+                Dependency d1 = l1.getDependency();
+                Dependency d2 = l2.getDependency();
+                int result = (d1.getGroupId() + ":" + d1.getArtifactId())
+                        .compareTo(d2.getGroupId() + ":" + d2.getArtifactId());
+                return result != 0 ? result : d1.getVersion().compareTo(d2.getVersion());
+            }
+        });
         dependencyResult.setSnapshots(snapshots);
         return dependencyResult;
     }
@@ -722,35 +699,26 @@ public class DependencyConvergenceReport extends AbstractProjectInfoReport {
      *
      * @param conflictingDependencyMap
      * @param reactorProject
-     * @param node
+     * @param versionTable the versions of the dependency tree of the reactor project
      */
     private void getConflictingDependencyMap(
             Map<String, List<ReverseDependencyLink>> conflictingDependencyMap,
             MavenProject reactorProject,
-            DependencyNode node) {
-        DependencyVersionMap visitor = new DependencyVersionMap();
-        visitor.setUniqueVersions(true);
-
-        node.accept(visitor);
-
-        for (List<DependencyNode> nodes : visitor.getConflictedVersionNumbers()) {
-            DependencyNode dependencyNode = nodes.get(0);
+            DependencyVersionTable versionTable) {
+        DependencyCoordinates coordinates = versionTable.getCoordinates();
 
-            String key = dependencyNode.getArtifact().getGroupId() + ":"
-                    + dependencyNode.getArtifact().getArtifactId();
+        for (List<DependencyNode> nodes : versionTable.getConflictedVersionNumbers()) {
+            String key = coordinates.getGroupArtifactKey(coordinates.getGroupArtifactId(nodes.get(0).getArtifact()));
 
             List<ReverseDependencyLink> dependencyList = conflictingDependencyMap.get(key);
             if (dependencyList == null) {
                 dependencyList = new ArrayList<>();
+                conflictingDependencyMap.put(key, dependencyList);
             }
 
-            dependencyList.add(new ReverseDependencyLink(toDependency(dependencyNode.getArtifact()), reactorProject));
-
-            for (DependencyNode workNode : nodes.subList(1, nodes.size())) {
+            for (DependencyNode workNode : nodes) {
                 dependencyList.add(new ReverseDependencyLink(toDependency(workNode.getArtifact()), reactorProject));
             }
-
-            conflictingDependencyMap.put(key, dependencyList);
         }
     }
 
@@ -758,28 +726,42 @@ public class DependencyConvergenceReport extends AbstractProjectInfoReport {
      * Get all dependencies (both directive & transitive dependencies) by specified dependency node.
      *
      * @param allDependencies
+     * @param allVersions the ids of the <code>groupId:artifactId:version</code> already in <code>allDependencies</code>
+     * @param snapshots the snapshot dependencies which are not reactor projects
      * @param reactorProject
-     * @param node
+     * @param versionTable the versions of the dependency tree of the reactor project
      */
     private void getAllDependencyMap(
             Map<String, List<ReverseDependencyLink>> allDependencies,
+            BitSet allVersions,
+            List<ReverseDependencyLink> snapshots,
             MavenProject reactorProject,
-            DependencyNode node) {
-        Set<Artifact> artifacts = getAllDescendants(node);
+            DependencyVersionTable versionTable) {
+        DependencyCoordinates coordinates = versionTable.getCoordinates();
 
-        for (Artifact art : artifacts) {
-            String key = art.getGroupId() + ":" + art.getArtifactId();
+        BitSet versionIds = versionTable.getDependencyVersionIds();
+        versionIds.andNot(allVersions);
+        allVersions.or(versionIds);
+
+        for (int versionId = versionIds.nextSetBit(0);
+                versionId >= 0;
+                versionId = versionIds.nextSetBit(versionId + 1)) {
+            String key = coordinates.getGroupArtifactKey(coordinates.getGroupArtifactIdOfVersion(versionId));
 
             List<ReverseDependencyLink> reverseDepependencies = allDependencies.get(key);
             if (reverseDepependencies == null) {
                 reverseDepependencies = new ArrayList<>();
+                allDependencies.put(key, reverseDepependencies);
             }
 
-            if (!containsDependency(reverseDepependencies, art)) {
-                reverseDepependencies.add(new ReverseDependencyLink(toDependency(art), reactorProject));
-            }
+            // the version is new in the reactor, so it was first looked up in the tree of this reactor project
+            ReverseDependencyLink rdl =
+                    new ReverseDependencyLink(toDependency(coordinates.getArtifact(versionId)), reactorProject);
+            reverseDepependencies.add(rdl);
 
-            allDependencies.put(key, reverseDepependencies);
+            if (coordinates.isSnapshot(versionId) && !isReactorProject(rdl.getDependency())) {
+                snapshots.add(rdl);
+            }
         }
     }
 
@@ -801,62 +783,73 @@ public class DependencyConvergenceReport extends AbstractProjectInfoReport {
     }
 
     /**
-     * To check whether dependency list contains a given artifact.
+     * Collect the dependency trees of the reactor projects, concurrently with up to {@link #convergenceThreads}
+     * threads. Each project gets its own copy of the building request of the session.
      *
-     * @param reverseDependencies
-     * @param art
-     * @return contains:true; Not contains:false;
+     * @return the root nodes of the dependency trees, in the order of the reactor projects.
+     * @throws MavenReportException
      */
-    private boolean containsDependency(List<ReverseDependencyLink> reverseDependencies, Artifact art) {
-
-        for (ReverseDependencyLink revDependency : reverseDependencies) {
-            Dependency dep = revDependency.getDependency();
-            if (dep.getGroupId().equals(art.getGroupId())
-                    && dep.getArtifactId().equals(art.getArtifactId())
-                    && dep.getVersion().equals(art.getVersion())) {
-                return true;
-            }
+    private List<DependencyNode> collectDependencyGraphs() throws MavenReportException {
+        final ProjectBuildingRequest sessionBuildingRequest = getSession().getProjectBuildingRequest();
+        final DependencyGraphCache dependencyGraphCache = getDependencyGraphCache();
+
+        List<Callable<DependencyNode>> tasks = new ArrayList<>(reactorProjects.size());
+        for (final MavenProject reactorProject : reactorProjects) {
+            tasks.add(new Callable<DependencyNode>() {
+                public DependencyNode call() throws MavenReportException {
+                    ProjectBuildingRequest buildingRequest = new DefaultProjectBuildingRequest(sessionBuildingRequest);
+                    buildingRequest.setProject(reactorProject);
+
+                    return getNode(buildingRequest, dependencyGraphCache);
+                }
+            });
         }
 
-        return false;
+        List<Future<DependencyNode>> futures;
+        try {
+            futures = ParallelTasks.invokeAll(tasks, convergenceThreads, "mpir-dependency-collector");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MavenReportException("Interrupted while building the dependency trees", e);
+        }
+
+        List<DependencyNode> nodes = new ArrayList<>(futures.size());
+        for (Future<DependencyNode> future : futures) {
+            try {
+                nodes.add(future.get());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new MavenReportException("Interrupted while building the dependency trees", e);
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof MavenReportException) {
+                    throw (MavenReportException) e.getCause();
+                }
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+                throw new MavenReportException("Could not build dependency tree: " + e.getCause(), e);
+            }
+        }
+        return nodes;
     }
 
     /**
      * Get root node of dependency tree for a given project
      *
      * @param buildingRequest
+     * @param dependencyGraphCache the cache of the dependency graphs of the session
      * @return root node of dependency tree
      * @throws MavenReportException
      */
-    private DependencyNode getNode(ProjectBuildingRequest buildingRequest) throws MavenReportException {
+    private DependencyNode getNode(ProjectBuildingRequest buildingRequest, DependencyGraphCache dependencyGraphCache)
+            throws MavenReportException {
         try {
-            return dependencyCollectorBuilder.collectDependencyGraph(buildingRequest, filter);
+            return dependencyGraphCache.collectDependencyGraph(dependencyCollectorBuilder, buildingRequest, null);
         } catch (DependencyCollectorBuilderException e) {
             throw new MavenReportException("Could not build dependency tree: " + e.getMessage(), e);
         }
     }
 
-    /**
-     * Get all descendants nodes for a given dependency node.
-     *
-     * @param node
-     * @return set of descendants artifacts.
-     */
-    private Set<Artifact> getAllDescendants(DependencyNode node) {
-        Set<Artifact> children = null;
-        if (node.getChildren() != null) {
-            children = new HashSet<>();
-            for (DependencyNode depNode : node.getChildren()) {
-                children.add(depNode.getArtifact());
-                Set<Artifact> subNodes = getAllDescendants(depNode);
-                if (subNodes != null) {
-                    children.addAll(subNodes);
-                }
-            }
-        }
-        return children;
-    }
-
     private int calculateConvergence(DependencyAnalyzeResult result) {
         return (int) (((double) result.getDependencyCount() / (double) result.getArtifactCount()) * FULL_CONVERGENCE);
     }
@@ -903,9 +896,11 @@ public class DependencyConvergenceReport extends AbstractProjectInfoReport {
     /**
      * Internal object
      */
-    private class DependencyAnalyzeResult {
+    class DependencyAnalyzeResult {
         Map<String, List<ReverseDependencyLink>> all;
 
+        int artifactCount;
+
         List<ReverseDependencyLink> snapshots;
 
         Map<String, List<ReverseDependencyLink>> conflicting;
@@ -914,6 +909,10 @@ public class DependencyConvergenceReport extends AbstractProjectInfoReport {
             this.all = all;
         }
 
+        public void setArtifactCount(int artifactCount) {
+            this.artifactCount = artifactCount;
+        }
+
         public List<ReverseDependencyLink> getSnapshots() {
             return snapshots;
         }
@@ -943,12 +942,6 @@ public class DependencyConvergenceReport extends AbstractProjectInfoReport {
         }
 
         public int getArtifactCount() {
-            int artifactCount = 0;
-            for (List<ReverseDependencyLink> depList : this.all.values()) {
-                Map<String, List<ReverseDependencyLink>> artifactMap = getSortedUniqueArtifactMap(depList);
-                artifactCount += artifactMap.size();
-            }
-
             return artifactCount;
         }
     }
@@ -0,0 +1,353 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.report.projectinfo;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.maven.artifact.ArtifactUtils;
+import org.apache.maven.artifact.resolver.filter.ArtifactFilter;
+import org.apache.maven.artifact.resolver.filter.ScopeArtifactFilter;
+import org.apache.maven.execution.MavenSession;
+import org.apache.maven.project.ProjectBuildingRequest;
+import org.apache.maven.report.projectinfo.dependencies.DependencyNodeInterner;
+import org.apache.maven.shared.dependency.graph.DependencyCollectorBuilder;
+import org.apache.maven.shared.dependency.graph.DependencyCollectorBuilderException;
+import org.apache.maven.shared.dependency.graph.DependencyGraphBuilder;
+import org.apache.maven.shared.dependency.graph.DependencyGraphBuilderException;
+import org.apache.maven.shared.dependency.graph.DependencyNode;
+import org.apache.maven.shared.dependency.graph.internal.DefaultDependencyNode;
+import org.eclipse.aether.RepositorySystemSession;
+import org.eclipse.aether.SessionData;
+
+/**
+ * Cache of the dependency graphs of the projects, shared by all the reports executed in a {@link MavenSession}.
+ * Entries are keyed by the kind of graph (resolved or collected), the id of the project and the scope the graph is
+ * filtered on, so that reports asking for the same scope share the graph. Failures to build a graph are cached too.
+ * When there are more entries of a kind than its maximum, the least recently used ones are evicted.
+ * <p>
+ * The reports resolve the artifacts of the resolved graphs, so each lookup gets its own copy of the cached graph and
+ * of its artifacts. The resolved graphs are only reused by the reports of a project, so only a few are kept, while
+ * one collected graph per project of the reactor is kept for the dependency convergence.
+ * <p>
+ * The collected graphs share their identical subtrees, see {@link DependencyNodeInterner}, for as long as they are
+ * cached. A shared node has several parents, so the consumers of the collected graphs must not rely on
+ * {@link DependencyNode#getParent()}, which is always <code>null</code>: they have to track the ancestors of a node
+ * while visiting the graph. Concurrent builds of the same graph are coalesced into one.
+ *
+ * @since 3.6.2
+ */
+public class DependencyGraphCache {
+    /**
+     * The maximum number of resolved graphs of the cache shared in a session: those of the projects whose reports
+     * are being generated, a few at once in a parallel build.
+     */
+    public static final int DEFAULT_MAX_RESOLVED_ENTRIES = 16;
+
+    private static final String SESSION_KEY = DependencyGraphCache.class.getName();
+
+    private final Map<Key, Object> resolvedEntries;
+
+    private final Map<Key, Object> collectedEntries;
+
+    private final DependencyNodeInterner collectedNodes = new DependencyNodeInterner();
+
+    private final SingleFlight<Key, Object> builds = new SingleFlight<>();
+
+    private final AtomicLong hits = new AtomicLong();
+
+    private final AtomicLong misses = new AtomicLong();
+
+    private final AtomicLong buildNanos = new AtomicLong();
+
+    /**
+     * @param maxResolvedEntries the maximum number of resolved graphs to keep, <code>0</code> to not cache them.
+     * @param maxCollectedEntries the maximum number of collected graphs to keep, <code>0</code> to not cache them.
+     */
+    public DependencyGraphCache(int maxResolvedEntries, int maxCollectedEntries) {
+        this.resolvedEntries = newEntries(maxResolvedEntries);
+        this.collectedEntries = newEntries(maxCollectedEntries);
+    }
+
+    /**
+     * @param session the current session, could be null.
+     * @return the cache shared by all the reports of the session, or a new one if the session can't hold it.
+     */
+    public static DependencyGraphCache getInstance(MavenSession session) {
+        RepositorySystemSession repositorySession = session != null ? session.getRepositorySession() : null;
+        if (repositorySession == null || repositorySession.getData() == null) {
+            return newInstance(session);
+        }
+
+        SessionData data = repositorySession.getData();
+        Object cache = data.get(SESSION_KEY);
+        if (cache == null) {
+            data.set(SESSION_KEY, null, newInstance(session));
+            cache = data.get(SESSION_KEY);
+        }
+
+        if (cache instanceof DependencyGraphCache) {
+            return (DependencyGraphCache) cache;
+        }
+
+        // stored by another version of the plugin
+        return newInstance(session);
+    }
+
+    /**
+     * Build the resolved dependency graph of the project of the request, unless it was already built in the session.
+     *
+     * @param dependencyGraphBuilder not null
+     * @param buildingRequest the request with the project, not null.
+     * @param scope the scope to filter the graph on, as a {@link ScopeArtifactFilter}, or <code>null</code> to not
+     * filter it.
+     * @return the root node of a copy of the resolved dependency graph, whose artifacts can be resolved.
+     * @throws DependencyGraphBuilderException if the graph can't be built, also when cached.
+     * @see DependencyGraphBuilder#buildDependencyGraph(ProjectBuildingRequest, ArtifactFilter)
+     */
+    public DependencyNode buildDependencyGraph(
+            final DependencyGraphBuilder dependencyGraphBuilder,
+            final ProjectBuildingRequest buildingRequest,
+            String scope)
+            throws DependencyGraphBuilderException {
+        final ArtifactFilter filter = getFilter(scope);
+        Key key = new Key("resolved", buildingRequest.getProject().getId(), scope);
+
+        Object entry = getEntry(resolvedEntries, key, new Callable<Object>() {
+            public Object call() {
+                try {
+                    return dependencyGraphBuilder.buildDependencyGraph(buildingRequest, filter);
+                } catch (DependencyGraphBuilderException e) {
+                    return e;
+                }
+            }
+        });
+
+        if (entry instanceof DependencyGraphBuilderException) {
+            throw (DependencyGraphBuilderException) entry;
+        }
+
+        return copy((DependencyNode) entry, null);
+    }
+
+    /**
+     * Collect the dependency graph of the project of the request, without resolving the conflicts, unless it was
+     * already collected in the session.
+     *
+     * @param dependencyCollectorBuilder not null
+     * @param buildingRequest the request with the project, not null.
+     * @param scope the scope to filter the graph on, as a {@link ScopeArtifactFilter}, or <code>null</code> to not
+     * filter it.
+     * @return the root node of the collected dependency graph, whose nodes have no parent. It is shared, so it must not
+     * be modified.
+     * @throws DependencyCollectorBuilderException if the graph can't be collected, also when cached.
+     * @see DependencyCollectorBuilder#collectDependencyGraph(ProjectBuildingRequest, ArtifactFilter)
+     */
+    public DependencyNode collectDependencyGraph(
+            final DependencyCollectorBuilder dependencyCollectorBuilder,
+            final ProjectBuildingRequest buildingRequest,
+            String scope)
+            throws DependencyCollectorBuilderException {
+        final ArtifactFilter filter = getFilter(scope);
+        Key key = new Key("collected", buildingRequest.getProject().getId(), scope);
+
+        Object entry = getEntry(collectedEntries, key, new Callable<Object>() {
+            public Object call() {
+                try {
+                    DependencyNode root = dependencyCollectorBuilder.collectDependencyGraph(buildingRequest, filter);
+                    return collectedNodes.intern(root);
+                } catch (DependencyCollectorBuilderException e) {
+                    return e;
+                }
+            }
+        });
+
+        if (entry instanceof DependencyCollectorBuilderException) {
+            throw (DependencyCollectorBuilderException) entry;
+        }
+
+        return (DependencyNode) entry;
+    }
+
+    /**
+     * @return the number of lookups served from the cache.
+     */
+    public long getHits() {
+        return hits.get();
+    }
+
+    /**
+     * @return the number of lookups which required to build the graph.
+     */
+    public long getMisses() {
+        return misses.get();
+    }
+
+    /**
+     * @return the time spent building graphs, in nanoseconds, summed over the threads building them.
+     */
+    public long getBuildNanos() {
+        return buildNanos.get();
+    }
+
+    /**
+     * @return the number of lookups which waited for the build of the same graph by another thread.
+     */
+    public long getCoalesced() {
+        return builds.getCoalesced();
+    }
+
+    /**
+     * @return the number of entries in the cache.
+     */
+    public int size() {
+        return resolvedEntries.size() + collectedEntries.size();
+    }
+
+    @Override
+    public String toString() {
+        return "Dependency graph cache: " + getHits() + " hits, " + getMisses() + " misses, " + getCoalesced()
+                + " coalesced, " + size() + " entries";
+    }
+
+    /**
+     * @param session the current session, could be null.
+     * @return a cache keeping the collected graphs of all the projects of the reactor of the session.
+     */
+    private static DependencyGraphCache newInstance(MavenSession session) {
+        int projects = session != null && session.getProjects() != null ? session.getProjects().size() : 0;
+        return new DependencyGraphCache(DEFAULT_MAX_RESOLVED_ENTRIES, Math.max(projects, DEFAULT_MAX_RESOLVED_ENTRIES));
+    }
+
+    private static Map<Key, Object> newEntries(final int maxEntries) {
+        return Collections.synchronizedMap(new LinkedHashMap<Key, Object>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Object> eldest) {
+                return size() > maxEntries;
+            }
+        });
+    }
+
+    /**
+     * @param node the node to copy, not null.
+     * @param parent the copy of the parent of the node, could be null.
+     * @return a copy of the node, its artifact and its children.
+     */
+    private static DependencyNode copy(DependencyNode node, DependencyNode parent) {
+        DefaultDependencyNode copy = new DefaultDependencyNode(
+                parent,
+                ArtifactUtils.copyArtifact(node.getArtifact()),
+                node.getPremanagedVersion(),
+                node.getPremanagedScope(),
+                node.getVersionConstraint(),
+                node.getOptional(),
+                node.getExclusions());
+
+        List<DependencyNode> children = new ArrayList<>(node.getChildren().size());
+        for (DependencyNode child : node.getChildren()) {
+            children.add(copy(child, copy));
+        }
+        copy.setChildren(children);
+        return copy;
+    }
+
+    private static ArtifactFilter getFilter(String scope) {
+        return scope != null ? new ScopeArtifactFilter(scope) : null;
+    }
+
+    /**
+     * @param entries the entries of the kind of graph, not null.
+     * @param key not null
+     * @param build the build of the entry, returning the graph or the failure to build it.
+     * @return the cached entry, built at most once even when asked concurrently.
+     */
+    private Object getEntry(final Map<Key, Object> entries, final Key key, final Callable<Object> build) {
+        Object entry = entries.get(key);
+        if (entry != null) {
+            hits.incrementAndGet();
+            return entry;
+        }
+
+        try {
+            return builds.execute(key, new Callable<Object>() {
+                public Object call() throws Exception {
+                    // built by another thread since the lookup
+                    Object value = entries.get(key);
+                    if (value != null) {
+                        hits.incrementAndGet();
+                        return value;
+                    }
+
+                    misses.incrementAndGet();
+                    long start = System.nanoTime();
+                    try {
+                        value = build.call();
+                    } finally {
+                        buildNanos.addAndGet(System.nanoTime() - start);
+                    }
+                    entries.put(key, value);
+                    return value;
+                }
+            });
+        } catch (ExecutionException e) {
+            // never thrown, the build failures are returned
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static class Key {
+        private final String kind;
+
+        private final String projectId;
+
+        private final String scope;
+
+        Key(String kind, String projectId, String scope) {
+            this.kind = kind;
+            this.projectId = projectId;
+            this.scope = scope;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) obj;
+            return kind.equals(other.kind) && projectId.equals(other.projectId) && Objects.equals(scope, other.scope);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(kind, projectId, scope);
+        }
+    }
+}
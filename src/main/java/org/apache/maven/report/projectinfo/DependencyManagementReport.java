@@ -18,12 +18,15 @@
  */
 package org.apache.maven.report.projectinfo;
 
+import java.io.File;
 import java.util.Locale;
+import java.util.concurrent.TimeUnit;
 
 import org.apache.maven.artifact.metadata.ArtifactMetadataSource;
 import org.apache.maven.artifact.repository.metadata.RepositoryMetadataManager;
 import org.apache.maven.plugins.annotations.Component;
 import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
 import org.apache.maven.plugins.annotations.ResolutionScope;
 import org.apache.maven.project.DefaultProjectBuildingRequest;
 import org.apache.maven.project.ProjectBuildingRequest;
@@ -63,6 +66,26 @@ public class DependencyManagementReport extends AbstractProjectInfoReport {
     // Mojo parameters
     // ----------------------------------------------------------------------
 
+    /**
+     * The directory where the available versions of the dependencies managed with a version range are cached, shared
+     * by the builds.
+     *
+     * @since 3.6.2
+     */
+    @Parameter(
+            property = "dependencyManagement.versionsCacheDirectory",
+            defaultValue = "${settings.localRepository}/.cache/maven-project-info-reports-plugin/versions")
+    private File versionsCacheDirectory;
+
+    /**
+     * The time in seconds during which the cached available versions of a dependency are used without retrieving them
+     * again. Older versions are still used when they can't be retrieved, and whatever their age in offline mode.
+     *
+     * @since 3.6.2
+     */
+    @Parameter(property = "dependencyManagement.versionsCacheTimeToLive", defaultValue = "3600")
+    private long versionsCacheTimeToLive;
+
     /**
      * Lazy instantiation for management dependencies.
      */
@@ -99,7 +122,11 @@ public class DependencyManagementReport extends AbstractProjectInfoReport {
                 remoteRepositories,
                 pluginRepositories,
                 buildingRequest,
-                repositoryMetadataManager);
+                repositoryMetadataManager,
+                getProjectMetadataCache());
+
+        ArtifactVersionsCache artifactVersionsCache = ArtifactVersionsCache.getInstance(
+                getSession(), versionsCacheDirectory, TimeUnit.SECONDS.toMillis(versionsCacheTimeToLive));
 
         DependencyManagementRenderer r = new DependencyManagementRenderer(
                 getSink(),
@@ -109,11 +136,20 @@ public class DependencyManagementReport extends AbstractProjectInfoReport {
                 getManagementDependencies(),
                 artifactMetadataSource,
                 repositorySystem,
-                projectBuilder,
                 buildingRequest,
                 repoUtils,
-                getLicenseMappings());
+                getLicenseMappings(),
+                artifactVersionsCache);
+
+        long versionRetrievals = artifactVersionsCache.getMisses();
         r.render();
+
+        if (getReportMetrics() != null) {
+            getReportMetrics().add("versionRetrievals", artifactVersionsCache.getMisses() - versionRetrievals);
+        }
+
+        getLog().debug(repoUtils.getProjectMetadataCache().toString());
+        getLog().debug(artifactVersionsCache.toString());
     }
 
     /**
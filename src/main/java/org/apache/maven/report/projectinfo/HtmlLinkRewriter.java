@@ -0,0 +1,168 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.report.projectinfo;
+
+/**
+ * Extracts the body of an HTML document, typically a license, and makes the <code>href</code> of its anchors and the
+ * <code>src</code> of its images absolute, in a single scan of the document. Only the double quoted attribute values
+ * are rewritten: the ones starting with <code>/</code> are resolved against the server, the other ones without a
+ * scheme against the base URL.
+ *
+ * @since 3.6.2
+ */
+final class HtmlLinkRewriter {
+    private HtmlLinkRewriter() {
+        // nop
+    }
+
+    /**
+     * @param content the document, not null.
+     * @param baseURL the URL of the directory of the document, not null.
+     * @return the body of the document with absolute links, or <code>null</code> if the document is not HTML or has
+     * no body.
+     */
+    static String rewriteBody(String content, String baseURL) {
+        if (indexOfIgnoreCase(content, "<!doctype html") < 0 && indexOfIgnoreCase(content, "<html>") < 0) {
+            return null;
+        }
+
+        int bodyStart = indexOfIgnoreCase(content, "<body");
+        int bodyEnd = indexOfIgnoreCase(content, "</body>");
+        if (bodyStart < 0 || bodyEnd <= bodyStart) {
+            return null;
+        }
+        bodyStart = content.indexOf('>', bodyStart) + 1;
+
+        return rewriteLinks(content, Math.min(bodyStart, bodyEnd), bodyEnd, baseURL);
+    }
+
+    /**
+     * @param html the HTML fragment, not null.
+     * @param baseURL the URL of the directory of the fragment, not null.
+     * @return the fragment with absolute links.
+     */
+    static String rewriteLinks(String html, String baseURL) {
+        return rewriteLinks(html, 0, html.length(), baseURL);
+    }
+
+    private static String rewriteLinks(String html, int start, int end, String baseURL) {
+        String url = baseURL.endsWith("/") ? baseURL : baseURL + "/";
+        String serverURL = url.substring(0, url.indexOf('/', url.indexOf("//") + 2));
+
+        StringBuilder sb = new StringBuilder(end - start + 256);
+        int copied = start;
+        int pos = html.indexOf('<', start);
+        while (pos >= 0 && pos < end) {
+            int valueStart = findAttributeValue(html, pos, end);
+            if (valueStart < 0) {
+                pos = html.indexOf('<', pos + 1);
+                continue;
+            }
+
+            int valueEnd = html.indexOf('"', valueStart);
+            int tagEnd = valueEnd < 0 ? -1 : html.indexOf('>', valueEnd);
+            if (tagEnd < 0 || tagEnd >= end) {
+                break;
+            }
+
+            sb.append(html, copied, valueStart);
+            copied = valueStart;
+            if (valueStart < valueEnd && html.charAt(valueStart) == '/') {
+                // root link
+                sb.append(serverURL);
+            } else if (!hasScheme(html, valueStart, valueEnd)) {
+                // relative link
+                sb.append(url);
+            }
+
+            pos = html.indexOf('<', tagEnd + 1);
+        }
+        sb.append(html, copied, end);
+
+        return sb.toString();
+    }
+
+    /**
+     * @param html not null
+     * @param tagStart the index of the <code>&lt;</code> starting the tag.
+     * @param end the end of the scanned region
+     * @return the index of the double quoted value of the last link attribute of an anchor or image tag, or
+     * <code>-1</code> if the tag is not one of them.
+     */
+    private static int findAttributeValue(String html, int tagStart, int end) {
+        int i = skipWhitespace(html, tagStart + 1, end);
+
+        String attribute;
+        int nameEnd;
+        if (i + 1 < end && Character.toLowerCase(html.charAt(i)) == 'a' && Character.isWhitespace(html.charAt(i + 1))) {
+            attribute = "href";
+            nameEnd = i + 1;
+        } else if (i + 3 < end
+                && html.regionMatches(true, i, "img", 0, 3)
+                && Character.isWhitespace(html.charAt(i + 3))) {
+            attribute = "src";
+            nameEnd = i + 3;
+        } else {
+            return -1;
+        }
+
+        // the last attribute before the end of the tag wins
+        int valueStart = -1;
+        for (int j = nameEnd + 1; j < end && html.charAt(j) != '>'; j++) {
+            if (html.regionMatches(true, j, attribute, 0, attribute.length())) {
+                int k = skipWhitespace(html, j + attribute.length(), end);
+                if (k < end && html.charAt(k) == '=') {
+                    k = skipWhitespace(html, k + 1, end);
+                    if (k < end && html.charAt(k) == '"') {
+                        valueStart = k + 1;
+                    }
+                }
+            }
+        }
+        return valueStart;
+    }
+
+    private static boolean hasScheme(String html, int valueStart, int valueEnd) {
+        for (int i = valueStart; i < valueEnd; i++) {
+            if (html.charAt(i) == ':') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int skipWhitespace(String html, int index, int end) {
+        while (index < end && Character.isWhitespace(html.charAt(index))) {
+            index++;
+        }
+        return index;
+    }
+
+    private static int indexOfIgnoreCase(String s, String lowerCase) {
+        int last = s.length() - lowerCase.length();
+        char first = lowerCase.charAt(0);
+        for (int i = 0; i <= last; i++) {
+            if (Character.toLowerCase(s.charAt(i)) == first
+                    && s.regionMatches(true, i, lowerCase, 0, lowerCase.length())) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
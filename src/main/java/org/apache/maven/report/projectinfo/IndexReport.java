@@ -18,7 +18,6 @@
  */
 package org.apache.maven.report.projectinfo;
 
-import java.util.List;
 import java.util.Locale;
 
 import org.apache.maven.artifact.repository.ArtifactRepository;
@@ -64,7 +63,7 @@ public class IndexReport extends AbstractProjectInfoReport {
     public void executeReport(Locale locale) {
         ProjectIndexRenderer r = new ProjectIndexRenderer(
                 project,
-                getReactorProjects(),
+                getReactorProjectIndex(),
                 projectBuilder,
                 localRepository,
                 getName(locale),
@@ -104,7 +103,7 @@ public class IndexReport extends AbstractProjectInfoReport {
 
         ProjectIndexRenderer(
                 MavenProject project,
-                List<MavenProject> reactorProjects,
+                ReactorProjectIndex reactorProjectIndex,
                 ProjectBuilder projectBuilder,
                 ArtifactRepository localRepository,
                 String title,
@@ -114,7 +113,7 @@ public class IndexReport extends AbstractProjectInfoReport {
                 Locale locale,
                 Log log,
                 SiteTool siteTool) {
-            super(sink, project, reactorProjects, projectBuilder, localRepository, i18n, locale, log, siteTool);
+            super(sink, project, reactorProjectIndex, projectBuilder, localRepository, i18n, locale, log, siteTool);
 
             this.title = title;
 
@@ -0,0 +1,272 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.report.projectinfo;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.charset.StandardCharsets;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.maven.project.MavenProject;
+import org.apache.maven.settings.Settings;
+import org.codehaus.plexus.util.IOUtil;
+
+/**
+ * Cache on disk of the contents of remote URLs, typically license texts, shared by the builds using the same
+ * directory. An entry younger than the time to live is served without any request. An older entry is revalidated
+ * with its <code>ETag</code> and <code>Last-Modified</code> headers, and is served stale when the server can't be
+ * reached. In offline mode, the entries are always served, whatever their age, and nothing is downloaded.
+ * <p>
+ * The contents are stored as bytes and decoded with the encoding asked for. URLs which are not <code>http</code>
+ * or <code>https</code> are not cached.
+ *
+ * @since 3.6.2
+ */
+public class LicenseContentCache {
+    private static final String SOURCE = "url";
+
+    private static final String ETAG = "etag";
+
+    private static final String LAST_MODIFIED = "lastModified";
+
+    private static final String FETCHED = "fetched";
+
+    private final File directory;
+
+    private final CacheDirectory entries;
+
+    private final long timeToLive;
+
+    private final boolean offline;
+
+    private final AtomicLong hits = new AtomicLong();
+
+    private final AtomicLong revalidations = new AtomicLong();
+
+    private final AtomicLong downloads = new AtomicLong();
+
+    private final AtomicLong staleHits = new AtomicLong();
+
+    /**
+     * @param directory the directory of the entries, created when needed, null to not cache anything.
+     * @param timeToLive the time in milliseconds during which an entry is served without revalidation.
+     * @param offline <code>true</code> to serve the entries whatever their age and never download anything.
+     */
+    public LicenseContentCache(File directory, long timeToLive, boolean offline) {
+        this.directory = directory;
+        this.entries = directory != null ? new CacheDirectory(directory) : null;
+        this.timeToLive = timeToLive;
+        this.offline = offline;
+    }
+
+    /**
+     * Get the content of a URL, from the cache when it is fresh enough.
+     *
+     * @param url not null
+     * @param project could be null
+     * @param settings not null to handle proxy settings
+     * @param encoding the wanted encoding for the URL content. If null, UTF-8 will be used.
+     * @return the content decoded with the wanted encoding.
+     * @throws IOException if the content is neither cached nor downloadable.
+     * @see ProjectInfoReportUtils#getContent(URL, MavenProject, Settings, String)
+     */
+    public String getContent(URL url, MavenProject project, Settings settings, String encoding) throws IOException {
+        if (!isCacheable(url)) {
+            return ProjectInfoReportUtils.getContent(url, project, settings, encoding);
+        }
+
+        if (encoding == null || encoding.isEmpty()) {
+            encoding = StandardCharsets.UTF_8.name();
+        }
+
+        String name = CacheDirectory.getName(url.toExternalForm());
+        Properties metadata = readMetadata(name);
+        if (metadata != null && !url.toExternalForm().equals(metadata.getProperty(SOURCE))) {
+            // should never happen, but don't serve the content of another URL
+            metadata = null;
+        }
+
+        if (metadata != null && (offline || isFresh(metadata))) {
+            hits.incrementAndGet();
+            return new String(entries.readContent(name), encoding);
+        }
+
+        if (offline) {
+            throw new IOException("The content of '" + url + "' is not cached and the system is offline");
+        }
+
+        try {
+            return fetch(url, project, settings, encoding, name, metadata);
+        } catch (IOException e) {
+            if (metadata == null) {
+                throw e;
+            }
+
+            staleHits.incrementAndGet();
+            return new String(entries.readContent(name), encoding);
+        }
+    }
+
+    /**
+     * @param url not null
+     * @return <code>true</code> if the cache holds the content of the URL, whatever its age.
+     */
+    public boolean contains(URL url) {
+        if (!isCacheable(url)) {
+            return false;
+        }
+
+        Properties metadata = readMetadata(CacheDirectory.getName(url.toExternalForm()));
+        return metadata != null && url.toExternalForm().equals(metadata.getProperty(SOURCE));
+    }
+
+    /**
+     * @return the number of contents served from the cache without any request.
+     */
+    public long getHits() {
+        return hits.get();
+    }
+
+    /**
+     * @return the number of contents served from the cache after the server told they were not modified.
+     */
+    public long getRevalidations() {
+        return revalidations.get();
+    }
+
+    /**
+     * @return the number of contents downloaded.
+     */
+    public long getDownloads() {
+        return downloads.get();
+    }
+
+    /**
+     * @return the number of expired contents served from the cache because the server couldn't be reached.
+     */
+    public long getStaleHits() {
+        return staleHits.get();
+    }
+
+    /**
+     * @return the settings of the cache which the contents it serves depend on.
+     */
+    String getSettingsKey() {
+        return directory + "|" + timeToLive + "|" + offline;
+    }
+
+    @Override
+    public String toString() {
+        return "License content cache: " + getHits() + " hits, " + getRevalidations() + " revalidations, "
+                + getDownloads() + " downloads, " + getStaleHits() + " stale hits";
+    }
+
+    // ----------------------------------------------------------------------
+    // Private methods
+    // ----------------------------------------------------------------------
+
+    private String fetch(
+            URL url, MavenProject project, Settings settings, String encoding, String name, Properties metadata)
+            throws IOException {
+        ProjectInfoReportUtils.acquireConnection();
+        try {
+            URLConnection conn = ProjectInfoReportUtils.openConnection(url, project, settings);
+            return download(conn, url, encoding, name, metadata);
+        } finally {
+            ProjectInfoReportUtils.releaseConnection();
+        }
+    }
+
+    private String download(
+            URLConnection conn, URL url, String encoding, String name, Properties metadata) throws IOException {
+        if (metadata != null && conn instanceof HttpURLConnection) {
+            String etag = metadata.getProperty(ETAG);
+            if (etag != null) {
+                conn.setRequestProperty("If-None-Match", etag);
+            }
+            String lastModified = metadata.getProperty(LAST_MODIFIED);
+            if (lastModified != null) {
+                conn.setRequestProperty("If-Modified-Since", lastModified);
+            }
+        }
+
+        InputStream in = null;
+        try {
+            if (metadata != null
+                    && conn instanceof HttpURLConnection
+                    && ((HttpURLConnection) conn).getResponseCode() == HttpURLConnection.HTTP_NOT_MODIFIED) {
+                revalidations.incrementAndGet();
+                metadata.setProperty(FETCHED, String.valueOf(System.currentTimeMillis()));
+                entries.writeProperties(name, metadata);
+                return new String(entries.readContent(name), encoding);
+            }
+
+            in = conn.getInputStream();
+            byte[] content = IOUtil.toByteArray(in);
+
+            in.close();
+            in = null;
+
+            downloads.incrementAndGet();
+
+            Properties newMetadata = new Properties();
+            newMetadata.setProperty(SOURCE, url.toExternalForm());
+            newMetadata.setProperty(FETCHED, String.valueOf(System.currentTimeMillis()));
+            if (conn.getHeaderField("ETag") != null) {
+                newMetadata.setProperty(ETAG, conn.getHeaderField("ETag"));
+            }
+            if (conn.getHeaderField("Last-Modified") != null) {
+                newMetadata.setProperty(LAST_MODIFIED, conn.getHeaderField("Last-Modified"));
+            }
+
+            // the content first, so the metadata never points at a missing content
+            entries.writeContent(name, content);
+            entries.writeProperties(name, newMetadata);
+
+            return new String(content, encoding);
+        } finally {
+            IOUtil.close(in);
+        }
+    }
+
+    private boolean isFresh(Properties metadata) {
+        try {
+            long fetched = Long.parseLong(metadata.getProperty(FETCHED, "0"));
+            return System.currentTimeMillis() - fetched < timeToLive;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    /**
+     * @return the metadata of the entry, or <code>null</code> if the entry is not complete.
+     */
+    private Properties readMetadata(String name) {
+        return entries.hasContent(name) ? entries.readProperties(name) : null;
+    }
+
+    private boolean isCacheable(URL url) {
+        return entries != null && ("http".equals(url.getProtocol()) || "https".equals(url.getProtocol()));
+    }
+}
@@ -0,0 +1,235 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.report.projectinfo;
+
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.maven.execution.MavenSession;
+import org.apache.maven.settings.Proxy;
+import org.apache.maven.settings.Settings;
+import org.eclipse.aether.RepositorySystemSession;
+import org.eclipse.aether.SessionData;
+
+/**
+ * Fetcher of the license contents, shared by all the reports executed in a {@link MavenSession}. Each distinct URL
+ * is fetched once per session, whatever the number of modules declaring it, and the distinct URLs asked for at once
+ * are fetched concurrently. Failures to fetch a content are kept too, so an unreachable server only costs one
+ * timeout per session.
+ * <p>
+ * The fetches are keyed by the URL, the encoding, the settings of the {@link LicenseContentCache} and the active
+ * proxy, so reports configured differently don't share them. Only the <code>maxEntries</code> most recently used
+ * contents are kept.
+ *
+ * @since 3.6.2
+ */
+public class LicenseFetcher {
+    /**
+     * The default maximum number of concurrent fetches.
+     */
+    public static final int DEFAULT_THREADS = 4;
+
+    /**
+     * The maximum number of contents kept by the fetcher shared in a session.
+     */
+    public static final int DEFAULT_MAX_ENTRIES = 100;
+
+    private static final String SESSION_KEY = LicenseFetcher.class.getName();
+
+    private final Map<String, FutureTask<String>> fetches;
+
+    private final AtomicLong hits = new AtomicLong();
+
+    private final AtomicLong misses = new AtomicLong();
+
+    private final AtomicLong fetchNanos = new AtomicLong();
+
+    /**
+     * Creates a fetcher keeping {@link #DEFAULT_MAX_ENTRIES} contents.
+     */
+    public LicenseFetcher() {
+        this(DEFAULT_MAX_ENTRIES);
+    }
+
+    /**
+     * @param maxEntries the maximum number of contents to keep, <code>0</code> to not keep anything.
+     */
+    public LicenseFetcher(final int maxEntries) {
+        this.fetches = Collections.synchronizedMap(new LinkedHashMap<String, FutureTask<String>>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, FutureTask<String>> eldest) {
+                return size() > maxEntries;
+            }
+        });
+    }
+
+    /**
+     * @param session the current session, could be null.
+     * @return the fetcher shared by all the reports of the session, or a new one if the session can't hold it.
+     */
+    public static LicenseFetcher getInstance(MavenSession session) {
+        RepositorySystemSession repositorySession = session != null ? session.getRepositorySession() : null;
+        if (repositorySession == null || repositorySession.getData() == null) {
+            return new LicenseFetcher();
+        }
+
+        SessionData data = repositorySession.getData();
+        Object fetcher = data.get(SESSION_KEY);
+        if (fetcher == null) {
+            data.set(SESSION_KEY, null, new LicenseFetcher());
+            fetcher = data.get(SESSION_KEY);
+        }
+
+        if (fetcher instanceof LicenseFetcher) {
+            return (LicenseFetcher) fetcher;
+        }
+
+        // stored by another version of the plugin
+        return new LicenseFetcher();
+    }
+
+    /**
+     * Fetch the contents of the given URLs, the ones not fetched yet in the session concurrently.
+     *
+     * @param urls the URLs of the licenses, not null.
+     * @param settings not null to handle proxy settings
+     * @param encoding the wanted encoding for the URL contents, could be null.
+     * @param cache the cache to fetch the contents through, not null.
+     * @param threads the maximum number of concurrent fetches, <code>0</code> for one per available processor.
+     * @return the contents, in the order of the URLs. They are done, unless fetched by another thread.
+     * @throws InterruptedException if interrupted while waiting, the unfinished fetches are then cancelled.
+     * @see LicenseContentCache#getContent(URL, org.apache.maven.project.MavenProject, Settings, String)
+     */
+    public List<Future<String>> fetch(
+            List<URL> urls,
+            final Settings settings,
+            final String encoding,
+            final LicenseContentCache cache,
+            int threads)
+            throws InterruptedException {
+        List<Future<String>> contents = new ArrayList<>(urls.size());
+        List<FutureTask<String>> newFetches = new ArrayList<>();
+        List<String> newKeys = new ArrayList<>();
+
+        String settingsKey = getSettingsKey(settings, cache);
+        for (final URL url : urls) {
+            String key = url.toExternalForm() + '|' + encoding + '|' + settingsKey;
+            FutureTask<String> fetch = new FutureTask<>(new Callable<String>() {
+                public String call() throws Exception {
+                    long start = System.nanoTime();
+                    try {
+                        return cache.getContent(url, null, settings, encoding);
+                    } finally {
+                        fetchNanos.addAndGet(System.nanoTime() - start);
+                    }
+                }
+            });
+
+            FutureTask<String> previous = fetches.putIfAbsent(key, fetch);
+            if (previous != null) {
+                hits.incrementAndGet();
+                contents.add(previous);
+            } else {
+                misses.incrementAndGet();
+                contents.add(fetch);
+                newFetches.add(fetch);
+                newKeys.add(key);
+            }
+        }
+
+        List<Callable<Void>> tasks = new ArrayList<>(newFetches.size());
+        for (final FutureTask<String> fetch : newFetches) {
+            tasks.add(new Callable<Void>() {
+                public Void call() {
+                    fetch.run();
+                    return null;
+                }
+            });
+        }
+
+        try {
+            ParallelTasks.invokeAll(tasks, threads, "mpir-license-fetcher");
+        } catch (InterruptedException e) {
+            // don't let the other reports wait for fetches which will never run
+            for (int i = 0; i < newFetches.size(); i++) {
+                newFetches.get(i).cancel(true);
+                fetches.remove(newKeys.get(i), newFetches.get(i));
+            }
+            throw e;
+        }
+
+        return contents;
+    }
+
+    /**
+     * @return the number of contents asked for which were already fetched in the session.
+     */
+    public long getHits() {
+        return hits.get();
+    }
+
+    /**
+     * @return the number of contents fetched.
+     */
+    public long getMisses() {
+        return misses.get();
+    }
+
+    /**
+     * @return the time spent fetching contents, in nanoseconds, summed over the threads fetching them.
+     */
+    public long getFetchNanos() {
+        return fetchNanos.get();
+    }
+
+    @Override
+    public String toString() {
+        return "License fetcher: " + getHits() + " hits, " + getMisses() + " misses";
+    }
+
+    private static String getSettingsKey(Settings settings, LicenseContentCache cache) {
+        StringBuilder key = new StringBuilder(cache.getSettingsKey());
+
+        Proxy proxy = settings != null ? settings.getActiveProxy() : null;
+        if (proxy != null) {
+            key.append('|')
+                    .append(proxy.getProtocol())
+                    .append("://")
+                    .append(proxy.getUsername())
+                    .append('@')
+                    .append(proxy.getHost())
+                    .append(':')
+                    .append(proxy.getPort())
+                    .append(';')
+                    .append(proxy.getNonProxyHosts());
+        }
+
+        return key.toString();
+    }
+}
@@ -20,12 +20,18 @@ package org.apache.maven.report.projectinfo;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InterruptedIOException;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import org.apache.commons.validator.routines.UrlValidator;
 import org.apache.maven.doxia.sink.Sink;
@@ -59,7 +65,8 @@ public class LicensesReport extends AbstractProjectInfoReport {
     /**
      * Whether the only render links to the license documents instead of inlining them.
      * <br/>
-     * If the system is in {@link #offline} mode, the linkOnly parameter will be always <code>true</code>.
+     * If the system is in {@link #offline} mode, the remote license documents which are not cached are always
+     * rendered as links.
      *
      * @since 2.3
      */
@@ -74,6 +81,37 @@ public class LicensesReport extends AbstractProjectInfoReport {
     @Parameter
     private String licenseFileEncoding;
 
+    /**
+     * The directory where the contents of the remote licenses are cached, shared by the builds.
+     *
+     * @since 3.6.2
+     */
+    @Parameter(
+            property = "licenses.cacheDirectory",
+            defaultValue = "${settings.localRepository}/.cache/maven-project-info-reports-plugin/licenses")
+    private File licenseCacheDirectory;
+
+    /**
+     * The time in seconds during which a cached license content is used without checking whether it changed.
+     * Older contents are revalidated, and still used when the server can't be reached. If the system is in
+     * {@link #offline} mode, the cached contents are used whatever their age.
+     *
+     * @since 3.6.2
+     */
+    @Parameter(property = "licenses.cacheTimeToLive", defaultValue = "86400")
+    private long licenseCacheTimeToLive;
+
+    /**
+     * The maximum number of license contents fetched concurrently, <code>0</code> for one per available processor.
+     * The licenses declared by several modules are fetched once per build.
+     *
+     * @since 3.6.2
+     */
+    @Parameter(property = "licenses.threads", defaultValue = "4")
+    private int licenseFetchThreads;
+
+    private LicenseContentCache licenseContentCache;
+
     // ----------------------------------------------------------------------
     // Public methods
     // ----------------------------------------------------------------------
@@ -93,6 +131,7 @@ public class LicensesReport extends AbstractProjectInfoReport {
             return true;
         }
 
+        // the remote licenses which are not cached are rendered as links
         for (License license : project.getModel().getLicenses()) {
             String url = license.getUrl();
 
@@ -103,14 +142,10 @@ public class LicensesReport extends AbstractProjectInfoReport {
                 getLog().error(e.getMessage());
             }
 
-            if (licenseUrl != null && licenseUrl.getProtocol().equals("file")) {
-                return true;
-            }
-
             if (licenseUrl != null
-                    && (licenseUrl.getProtocol().equals("http")
+                    && (licenseUrl.getProtocol().equals("file")
+                            || licenseUrl.getProtocol().equals("http")
                             || licenseUrl.getProtocol().equals("https"))) {
-                linkOnly = true;
                 return true;
             }
         }
@@ -121,9 +156,25 @@ public class LicensesReport extends AbstractProjectInfoReport {
     @Override
     public void executeReport(Locale locale) {
         LicensesRenderer r = new LicensesRenderer(
-                getSink(), getProject(), getI18N(locale), locale, settings, linkOnly, licenseFileEncoding);
+                getSink(),
+                getProject(),
+                getI18N(locale),
+                locale,
+                settings,
+                linkOnly,
+                offline,
+                licenseFileEncoding,
+                getLicenseContentCache(),
+                LicenseFetcher.getInstance(getSession()),
+                licenseFetchThreads);
 
         r.render();
+
+        if (getLog().isDebugEnabled()) {
+            getLog().debug("License contents: " + ProjectInfoReportUtils.getContentFetches());
+            getLog().debug(getLicenseContentCache().toString());
+            getLog().debug(LicenseFetcher.getInstance(getSession()).toString());
+        }
     }
 
     /**
@@ -181,18 +232,39 @@ public class LicensesReport extends AbstractProjectInfoReport {
     // Private
     // ----------------------------------------------------------------------
 
+    private LicenseContentCache getLicenseContentCache() {
+        if (licenseContentCache == null) {
+            licenseContentCache = new LicenseContentCache(
+                    licenseCacheDirectory, TimeUnit.SECONDS.toMillis(licenseCacheTimeToLive), offline);
+        }
+        return licenseContentCache;
+    }
+
     /**
      * Internal renderer class
      */
-    private static class LicensesRenderer extends AbstractProjectInfoRenderer {
+    static class LicensesRenderer extends AbstractProjectInfoRenderer {
         private final MavenProject project;
 
         private final Settings settings;
 
         private final boolean linkOnly;
 
+        private final boolean offline;
+
         private final String licenseFileEncoding;
 
+        private final LicenseContentCache licenseContentCache;
+
+        private final LicenseFetcher licenseFetcher;
+
+        private final int licenseFetchThreads;
+
+        /**
+         * The fetched contents of the licenses, by external form of their URL.
+         */
+        private Map<String, Future<String>> licenseContents = Collections.emptyMap();
+
         LicensesRenderer(
                 Sink sink,
                 MavenProject project,
@@ -200,7 +272,11 @@ public class LicensesReport extends AbstractProjectInfoReport {
                 Locale locale,
                 Settings settings,
                 boolean linkOnly,
-                String licenseFileEncoding) {
+                boolean offline,
+                String licenseFileEncoding,
+                LicenseContentCache licenseContentCache,
+                LicenseFetcher licenseFetcher,
+                int licenseFetchThreads) {
             super(sink, i18n, locale);
 
             this.project = project;
@@ -209,7 +285,15 @@ public class LicensesReport extends AbstractProjectInfoReport {
 
             this.linkOnly = linkOnly;
 
+            this.offline = offline;
+
             this.licenseFileEncoding = licenseFileEncoding;
+
+            this.licenseContentCache = licenseContentCache;
+
+            this.licenseFetcher = licenseFetcher;
+
+            this.licenseFetchThreads = licenseFetchThreads;
         }
 
         @Override
@@ -238,6 +322,10 @@ public class LicensesReport extends AbstractProjectInfoReport {
 
             endSection();
 
+            if (!linkOnly) {
+                fetchLicenseContents(licenses);
+            }
+
             // License
             startSection(getI18nString("title"));
 
@@ -281,7 +369,7 @@ public class LicensesReport extends AbstractProjectInfoReport {
                     try {
                         URL licenseUrl = getLicenseURL(project, url);
 
-                        if (linkOnly) {
+                        if (isLinkOnly(licenseUrl)) {
                             link(licenseUrl.toExternalForm(), licenseUrl.toExternalForm());
                         } else {
                             renderLicenseContent(licenseUrl);
@@ -298,6 +386,80 @@ public class LicensesReport extends AbstractProjectInfoReport {
             endSection();
         }
 
+        /**
+         * Fetch the contents of all the licenses at once, they are rendered in the declaration order.
+         *
+         * @param licenses not null
+         */
+        private void fetchLicenseContents(List<License> licenses) {
+            List<URL> licenseUrls = new ArrayList<>(licenses.size());
+            for (License license : licenses) {
+                if (license.getUrl() != null) {
+                    try {
+                        URL licenseUrl = getLicenseURL(project, license.getUrl());
+                        if (!isLinkOnly(licenseUrl)) {
+                            licenseUrls.add(licenseUrl);
+                        }
+                    } catch (IOException e) {
+                        // rendered with the license
+                    }
+                }
+            }
+
+            try {
+                List<Future<String>> contents = licenseFetcher.fetch(
+                        licenseUrls, settings, licenseFileEncoding, licenseContentCache, licenseFetchThreads);
+
+                licenseContents = new HashMap<>();
+                for (int i = 0; i < licenseUrls.size(); i++) {
+                    licenseContents.put(licenseUrls.get(i).toExternalForm(), contents.get(i));
+                }
+            } catch (InterruptedException e) {
+                // fetched one by one while rendering
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        /**
+         * @param licenseUrl the license URL
+         * @return <code>true</code> to render a link to the license instead of its content, when asked to or when
+         * the license is remote, not cached and the system is offline.
+         */
+        private boolean isLinkOnly(URL licenseUrl) {
+            if (linkOnly) {
+                return true;
+            }
+
+            return offline
+                    && (licenseUrl.getProtocol().equals("http")
+                            || licenseUrl.getProtocol().equals("https"))
+                    && !licenseContentCache.contains(licenseUrl);
+        }
+
+        /**
+         * @param licenseUrl the license URL
+         * @return the content of the license, fetched beforehand if possible.
+         * @throws IOException if the content can't be fetched.
+         */
+        private String getLicenseContent(URL licenseUrl) throws IOException {
+            Future<String> content = licenseContents.get(licenseUrl.toExternalForm());
+            if (content == null) {
+                return licenseContentCache.getContent(licenseUrl, null, settings, licenseFileEncoding);
+            }
+
+            try {
+                return content.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while fetching the license " + licenseUrl);
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof IOException) {
+                    throw (IOException) e.getCause();
+                }
+                throw new IOException(e.getCause());
+            }
+        }
+
         /**
          * Render the license content into the report.
          *
@@ -306,23 +468,16 @@ public class LicensesReport extends AbstractProjectInfoReport {
         private void renderLicenseContent(URL licenseUrl) {
             try {
                 // All licenses are supposed to be in English...
-                String licenseContent = ProjectInfoReportUtils.getContent(licenseUrl, settings, licenseFileEncoding);
+                String licenseContent = getLicenseContent(licenseUrl);
 
                 // TODO: we should check for a text/html mime type instead, and possibly use a html parser to do this a
                 // bit more cleanly/reliably.
-                String licenseContentLC = licenseContent.toLowerCase(Locale.ENGLISH);
-                int bodyStart = licenseContentLC.indexOf("<body");
-                int bodyEnd = licenseContentLC.indexOf("</body>");
-
-                if ((licenseContentLC.contains("<!doctype html") || licenseContentLC.contains("<html>"))
-                        && ((bodyStart >= 0) && (bodyEnd > bodyStart))) {
-                    bodyStart = licenseContentLC.indexOf('>', bodyStart) + 1;
-                    String body = licenseContent.substring(bodyStart, bodyEnd);
+                String body = HtmlLinkRewriter.rewriteBody(licenseContent, baseURL(licenseUrl).toExternalForm());
 
+                if (body != null) {
                     link(licenseUrl.toExternalForm(), getI18nString("originalText"));
                     paragraph(getI18nString("copy"));
 
-                    body = replaceRelativeLinks(body, baseURL(licenseUrl).toExternalForm());
                     sink.rawText(body);
                 } else {
                     verbatimText(licenseContent);
@@ -345,50 +500,5 @@ public class LicensesReport extends AbstractProjectInfoReport {
 
             return aUrl;
         }
-
-        private static String replaceRelativeLinks(String html, String baseURL) {
-            String url = baseURL;
-            if (!url.endsWith("/")) {
-                url += "/";
-            }
-
-            String serverURL = url.substring(0, url.indexOf('/', url.indexOf("//") + 2));
-
-            String content = replaceParts(html, url, serverURL, "[aA]", "[hH][rR][eE][fF]");
-            content = replaceParts(content, url, serverURL, "[iI][mM][gG]", "[sS][rR][cC]");
-            return content;
-        }
-
-        private static String replaceParts(
-                String html, String baseURL, String serverURL, String tagPattern, String attributePattern) {
-            Pattern anchor = Pattern.compile(
-                    "(<\\s*" + tagPattern + "\\s+[^>]*" + attributePattern + "\\s*=\\s*\")([^\"]*)\"([^>]*>)");
-            StringBuilder sb = new StringBuilder(html);
-
-            int indx = 0;
-            boolean done = false;
-            while (!done) {
-                Matcher mAnchor = anchor.matcher(sb);
-                if (mAnchor.find(indx)) {
-                    indx = mAnchor.end(3);
-
-                    if (mAnchor.group(2).startsWith("#")) {
-                        // relative link - don't want to alter this one!
-                    }
-                    if (mAnchor.group(2).startsWith("/")) {
-                        // root link
-                        sb.insert(mAnchor.start(2), serverURL);
-                        indx += serverURL.length();
-                    } else if (mAnchor.group(2).indexOf(':') < 0) {
-                        // relative link
-                        sb.insert(mAnchor.start(2), baseURL);
-                        indx += baseURL.length();
-                    }
-                } else {
-                    done = true;
-                }
-            }
-            return sb.toString();
-        }
     }
 }
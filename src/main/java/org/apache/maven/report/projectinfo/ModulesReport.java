@@ -19,7 +19,6 @@
 package org.apache.maven.report.projectinfo;
 
 import java.io.File;
-import java.io.IOException;
 import java.net.MalformedURLException;
 import java.util.List;
 import java.util.Locale;
@@ -65,7 +64,7 @@ public class ModulesReport extends AbstractProjectInfoReport {
         new ModulesRenderer(
                         getSink(),
                         getProject(),
-                        getReactorProjects(),
+                        getReactorProjectIndex(),
                         projectBuilder,
                         localRepository,
                         getI18N(locale),
@@ -98,7 +97,7 @@ public class ModulesReport extends AbstractProjectInfoReport {
 
         protected MavenProject project;
 
-        protected List<MavenProject> reactorProjects;
+        protected ReactorProjectIndex reactorProjectIndex;
 
         protected ProjectBuilder projectBuilder;
 
@@ -109,7 +108,7 @@ public class ModulesReport extends AbstractProjectInfoReport {
         ModulesRenderer(
                 Sink sink,
                 MavenProject project,
-                List<MavenProject> reactorProjects,
+                ReactorProjectIndex reactorProjectIndex,
                 ProjectBuilder projectBuilder,
                 ArtifactRepository localRepository,
                 I18N i18n,
@@ -119,7 +118,7 @@ public class ModulesReport extends AbstractProjectInfoReport {
             super(sink, i18n, locale);
 
             this.project = project;
-            this.reactorProjects = reactorProjects;
+            this.reactorProjectIndex = reactorProjectIndex;
             this.projectBuilder = projectBuilder;
             this.localRepository = localRepository;
             this.siteTool = siteTool;
@@ -162,7 +161,7 @@ public class ModulesReport extends AbstractProjectInfoReport {
             buildingRequest.setProcessPlugins(false);
 
             for (String module : modules) {
-                MavenProject moduleProject = getModuleFromReactor(project, reactorProjects, module);
+                MavenProject moduleProject = getModuleFromReactor(project, reactorProjectIndex, module);
 
                 if (moduleProject == null) {
                     log.warn("Module " + module + " not found in reactor: loading locally");
@@ -197,24 +196,13 @@ public class ModulesReport extends AbstractProjectInfoReport {
         }
 
         private MavenProject getModuleFromReactor(
-                MavenProject project, List<MavenProject> reactorProjects, String module) {
+                MavenProject project, ReactorProjectIndex reactorProjectIndex, String module) {
             // Mainly case of unit test
-            if (reactorProjects == null) {
+            if (reactorProjectIndex == null) {
                 return null;
             }
-            try {
-                File moduleBasedir = new File(project.getBasedir(), module).getCanonicalFile();
-
-                for (MavenProject reactorProject : reactorProjects) {
-                    if (moduleBasedir.equals(reactorProject.getBasedir())) {
-                        return reactorProject;
-                    }
-                }
-            } catch (IOException e) {
-                log.error("Error while populating modules menu: " + e.getMessage(), e);
-            }
-            // module not found in reactor
-            return null;
+            // null if module not found in reactor
+            return reactorProjectIndex.getProject(new File(project.getBasedir(), module));
         }
 
         /**
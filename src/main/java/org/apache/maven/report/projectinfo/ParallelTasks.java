@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.report.projectinfo;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Utility to run independent tasks of a report on a bounded pool of daemon threads.
+ *
+ * @since 3.6.2
+ */
+public final class ParallelTasks {
+    private ParallelTasks() {
+        // nop
+    }
+
+    /**
+     * Run the given tasks and wait for their completion. The tasks are run in the calling thread when there is
+     * nothing to gain from a pool, i.e. for a single task or a single thread.
+     *
+     * @param tasks not null
+     * @param threads the maximum number of threads, <code>0</code> for one per available processor.
+     * @param threadName the prefix of the names of the pool threads, not null.
+     * @param <T> the type of the task results
+     * @return the futures of the tasks, all done, in the order of the tasks.
+     * @throws InterruptedException if interrupted while waiting, unfinished tasks are then cancelled.
+     */
+    public static <T> List<Future<T>> invokeAll(List<? extends Callable<T>> tasks, int threads, String threadName)
+            throws InterruptedException {
+        int poolSize = Math.min(threads > 0 ? threads : Runtime.getRuntime().availableProcessors(), tasks.size());
+
+        if (poolSize <= 1) {
+            List<Future<T>> futures = new ArrayList<>(tasks.size());
+            for (Callable<T> task : tasks) {
+                FutureTask<T> future = new FutureTask<>(task);
+                future.run();
+                futures.add(future);
+            }
+            return futures;
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(poolSize, new DaemonThreadFactory(threadName));
+        try {
+            return executor.invokeAll(tasks);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Creates daemon threads, so that a stuck task can't prevent the JVM from exiting.
+     */
+    private static class DaemonThreadFactory implements ThreadFactory {
+        private final String name;
+
+        private final AtomicInteger count = new AtomicInteger();
+
+        DaemonThreadFactory(String name) {
+            this.name = name;
+        }
+
+        /** {@inheritDoc} */
+        public Thread newThread(Runnable r) {
+            Thread thread = new Thread(r, name + "-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -18,10 +18,13 @@
  */
 package org.apache.maven.report.projectinfo;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Locale;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 
 import org.apache.maven.artifact.Artifact;
 import org.apache.maven.artifact.versioning.VersionRange;
@@ -61,12 +64,23 @@ public class PluginManagementReport extends AbstractProjectInfoReport {
     @Parameter
     private List<String> pluginManagementExcludes = null;
 
+    /**
+     * Number of threads used to build the projects of the plugins from the repository. A value of <code>0</code>
+     * uses one thread per available processor.
+     *
+     * @since 3.6.2
+     */
+    @Parameter(property = "pluginManagement.threads", defaultValue = "4")
+    private int pluginManagementThreads;
+
     // ----------------------------------------------------------------------
     // Public methods
     // ----------------------------------------------------------------------
 
     @Override
     public void executeReport(Locale locale) {
+        ProjectMetadataCache projectMetadataCache = getProjectMetadataCache();
+
         PluginManagementRenderer r = new PluginManagementRenderer(
                 getLog(),
                 getSink(),
@@ -77,8 +91,12 @@ public class PluginManagementReport extends AbstractProjectInfoReport {
                 projectBuilder,
                 repositorySystem,
                 getSession().getProjectBuildingRequest(),
-                pluginManagementExcludes);
+                projectMetadataCache,
+                pluginManagementExcludes,
+                pluginManagementThreads);
         r.render();
+
+        getLog().debug(projectMetadataCache.toString());
     }
 
     /** {@inheritDoc} */
@@ -125,8 +143,12 @@ public class PluginManagementReport extends AbstractProjectInfoReport {
 
         private final ProjectBuildingRequest buildingRequest;
 
+        private final ProjectMetadataCache projectMetadataCache;
+
         private final PatternExcludesArtifactFilter patternExcludesArtifactFilter;
 
+        private final int threads;
+
         /**
          * @param log {@link #log}
          * @param sink {@link Sink}
@@ -150,6 +172,89 @@ public class PluginManagementReport extends AbstractProjectInfoReport {
                 RepositorySystem repositorySystem,
                 ProjectBuildingRequest buildingRequest,
                 List<String> excludes) {
+            this(
+                    log,
+                    sink,
+                    locale,
+                    i18n,
+                    plugins,
+                    project,
+                    projectBuilder,
+                    repositorySystem,
+                    buildingRequest,
+                    new ProjectMetadataCache(ProjectMetadataCache.DEFAULT_MAX_ENTRIES),
+                    excludes);
+        }
+
+        /**
+         * @param log {@link #log}
+         * @param sink {@link Sink}
+         * @param locale {@link Locale}
+         * @param i18n {@link I18N}
+         * @param plugins {@link Plugin}
+         * @param project {@link MavenProject}
+         * @param projectBuilder {@link ProjectBuilder}
+         * @param repositorySystem {@link RepositorySystem}
+         * @param buildingRequest {@link ProjectBuildingRequest}
+         * @param projectMetadataCache {@link ProjectMetadataCache}
+         * @param excludes the list of plugins to be excluded from the report
+         */
+        public PluginManagementRenderer(
+                Log log,
+                Sink sink,
+                Locale locale,
+                I18N i18n,
+                List<Plugin> plugins,
+                MavenProject project,
+                ProjectBuilder projectBuilder,
+                RepositorySystem repositorySystem,
+                ProjectBuildingRequest buildingRequest,
+                ProjectMetadataCache projectMetadataCache,
+                List<String> excludes) {
+            this(
+                    log,
+                    sink,
+                    locale,
+                    i18n,
+                    plugins,
+                    project,
+                    projectBuilder,
+                    repositorySystem,
+                    buildingRequest,
+                    projectMetadataCache,
+                    excludes,
+                    1);
+        }
+
+        /**
+         * @param log {@link #log}
+         * @param sink {@link Sink}
+         * @param locale {@link Locale}
+         * @param i18n {@link I18N}
+         * @param plugins {@link Plugin}
+         * @param project {@link MavenProject}
+         * @param projectBuilder {@link ProjectBuilder}
+         * @param repositorySystem {@link RepositorySystem}
+         * @param buildingRequest {@link ProjectBuildingRequest}
+         * @param projectMetadataCache {@link ProjectMetadataCache}
+         * @param excludes the list of plugins to be excluded from the report
+         * @param threads the number of threads building the projects of the plugins, <code>0</code> for one per
+         * available processor.
+         * @since 3.6.2
+         */
+        public PluginManagementRenderer(
+                Log log,
+                Sink sink,
+                Locale locale,
+                I18N i18n,
+                List<Plugin> plugins,
+                MavenProject project,
+                ProjectBuilder projectBuilder,
+                RepositorySystem repositorySystem,
+                ProjectBuildingRequest buildingRequest,
+                ProjectMetadataCache projectMetadataCache,
+                List<String> excludes,
+                int threads) {
             super(sink, i18n, locale);
 
             this.log = log;
@@ -164,7 +269,11 @@ public class PluginManagementReport extends AbstractProjectInfoReport {
 
             this.buildingRequest = buildingRequest;
 
+            this.projectMetadataCache = projectMetadataCache;
+
             this.patternExcludesArtifactFilter = new PatternExcludesArtifactFilter(excludes);
+
+            this.threads = threads;
         }
 
         @Override
@@ -207,6 +316,8 @@ public class PluginManagementReport extends AbstractProjectInfoReport {
             buildRequest.setRemoteRepositories(project.getPluginArtifactRepositories());
             buildRequest.setProcessPlugins(false);
 
+            List<Plugin> plugins = new ArrayList<>(pluginManagement.size());
+            List<Artifact> pluginArtifacts = new ArrayList<>(pluginManagement.size());
             for (Plugin plugin : pluginManagement) {
                 VersionRange versionRange;
                 if (StringUtils.isEmpty(plugin.getVersion())) {
@@ -219,22 +330,32 @@ public class PluginManagementReport extends AbstractProjectInfoReport {
                         plugin.getGroupId(), plugin.getArtifactId(), versionRange.toString());
 
                 if (patternExcludesArtifactFilter.include(pluginArtifact)) {
-                    try {
-                        MavenProject pluginProject = projectBuilder
-                                .build(pluginArtifact, buildRequest)
-                                .getProject();
-
-                        tableRow(getPluginRow(
-                                pluginProject.getGroupId(), pluginProject.getArtifactId(),
-                                pluginProject.getVersion(), pluginProject.getUrl()));
-                    } catch (ProjectBuildingException e) {
-                        log.info("Could not build project for " + plugin.getArtifactId(), e);
-                        tableRow(getPluginRow(plugin.getGroupId(), plugin.getArtifactId(), plugin.getVersion(), null));
-                    }
+                    plugins.add(plugin);
+                    pluginArtifacts.add(pluginArtifact);
                 } else {
                     log.debug("Excluding plugin " + pluginArtifact.getId() + " from report");
                 }
             }
+
+            List<Future<ProjectMetadata>> pluginProjects = buildPluginProjects(pluginArtifacts, buildRequest);
+
+            for (int i = 0; i < plugins.size(); i++) {
+                Plugin plugin = plugins.get(i);
+                ProjectMetadata pluginProject = null;
+                try {
+                    pluginProject = getPluginProject(pluginProjects != null ? pluginProjects.get(i) : null);
+                } catch (ProjectBuildingException e) {
+                    log.info("Could not build project for " + plugin.getArtifactId(), e);
+                }
+
+                if (pluginProject != null) {
+                    tableRow(getPluginRow(
+                            pluginProject.getGroupId(), pluginProject.getArtifactId(),
+                            pluginProject.getVersion(), pluginProject.getUrl()));
+                } else {
+                    tableRow(getPluginRow(plugin.getGroupId(), plugin.getArtifactId(), plugin.getVersion(), null));
+                }
+            }
             endTable();
 
             endSection();
@@ -244,6 +365,48 @@ public class PluginManagementReport extends AbstractProjectInfoReport {
         // Private methods
         // ----------------------------------------------------------------------
 
+        /**
+         * @return the builds of the projects, in the order of the artifacts, or <code>null</code> if interrupted: the
+         * projects are then not built at all, the interrupted build has to stop as soon as possible.
+         */
+        private List<Future<ProjectMetadata>> buildPluginProjects(
+                List<Artifact> pluginArtifacts, ProjectBuildingRequest buildRequest) {
+            try {
+                return projectMetadataCache.buildAll(projectBuilder, pluginArtifacts, false, buildRequest, threads);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                log.debug("Interrupted while building the plugin projects, rendering the plugins without them");
+                return null;
+            }
+        }
+
+        /**
+         * @param pluginProject the build of the project of the plugin, could be null.
+         * @return the project of the plugin, or <code>null</code> if it was not built because of an interruption.
+         * @throws ProjectBuildingException if the project can't be built.
+         */
+        private ProjectMetadata getPluginProject(Future<ProjectMetadata> pluginProject)
+                throws ProjectBuildingException {
+            if (pluginProject == null) {
+                return null;
+            }
+
+            try {
+                return pluginProject.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return null;
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof ProjectBuildingException) {
+                    throw (ProjectBuildingException) e.getCause();
+                }
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+                throw new IllegalStateException(e.getCause());
+            }
+        }
+
         private String[] getPluginTableHeader() {
             // reused key...
             String groupId = getI18nString("dependency-management", "column.groupId");
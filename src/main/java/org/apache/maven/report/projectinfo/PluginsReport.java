@@ -23,6 +23,8 @@ import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Locale;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 
 import org.apache.maven.artifact.Artifact;
 import org.apache.maven.artifact.versioning.VersionRange;
@@ -31,6 +33,7 @@ import org.apache.maven.model.Plugin;
 import org.apache.maven.model.ReportPlugin;
 import org.apache.maven.plugin.logging.Log;
 import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
 import org.apache.maven.plugins.annotations.ResolutionScope;
 import org.apache.maven.project.DefaultProjectBuildingRequest;
 import org.apache.maven.project.MavenProject;
@@ -49,6 +52,15 @@ import org.codehaus.plexus.util.StringUtils;
  */
 @Mojo(name = "plugins", requiresDependencyResolution = ResolutionScope.TEST)
 public class PluginsReport extends AbstractProjectInfoReport {
+    /**
+     * Number of threads used to build the projects of the plugins from the repository. A value of <code>0</code>
+     * uses one thread per available processor.
+     *
+     * @since 3.6.2
+     */
+    @Parameter(property = "plugins.threads", defaultValue = "4")
+    private int pluginThreads;
+
     // ----------------------------------------------------------------------
     // Public methods
     // ----------------------------------------------------------------------
@@ -66,6 +78,8 @@ public class PluginsReport extends AbstractProjectInfoReport {
 
     @Override
     public void executeReport(Locale locale) {
+        ProjectMetadataCache projectMetadataCache = getProjectMetadataCache();
+
         PluginsRenderer r = new PluginsRenderer(
                 getLog(),
                 getSink(),
@@ -76,8 +90,12 @@ public class PluginsReport extends AbstractProjectInfoReport {
                 project,
                 projectBuilder,
                 repositorySystem,
-                getSession().getProjectBuildingRequest());
+                getSession().getProjectBuildingRequest(),
+                projectMetadataCache,
+                pluginThreads);
         r.render();
+
+        getLog().debug(projectMetadataCache.toString());
     }
 
     /** {@inheritDoc} */
@@ -112,6 +130,10 @@ public class PluginsReport extends AbstractProjectInfoReport {
 
         private final ProjectBuildingRequest buildingRequest;
 
+        private final ProjectMetadataCache projectMetadataCache;
+
+        private final int threads;
+
         /**
          * @param log {@link #log}
          * @param sink {@link Sink}
@@ -136,6 +158,90 @@ public class PluginsReport extends AbstractProjectInfoReport {
                 ProjectBuilder projectBuilder,
                 RepositorySystem repositorySystem,
                 ProjectBuildingRequest buildingRequest) {
+            this(
+                    log,
+                    sink,
+                    locale,
+                    i18n,
+                    plugins,
+                    reports,
+                    project,
+                    projectBuilder,
+                    repositorySystem,
+                    buildingRequest,
+                    new ProjectMetadataCache(ProjectMetadataCache.DEFAULT_MAX_ENTRIES));
+        }
+
+        /**
+         * @param log {@link #log}
+         * @param sink {@link Sink}
+         * @param locale {@link Locale}
+         * @param i18n {@link I18N}
+         * @param plugins {@link Artifact}
+         * @param reports {@link Artifact}
+         * @param project {@link MavenProject}
+         * @param projectBuilder {@link ProjectBuilder}
+         * @param repositorySystem {@link RepositorySystem}
+         * @param buildingRequest {@link ProjectBuildingRequest}
+         * @param projectMetadataCache {@link ProjectMetadataCache}
+         *
+         */
+        public PluginsRenderer(
+                Log log,
+                Sink sink,
+                Locale locale,
+                I18N i18n,
+                List<Plugin> plugins,
+                List<ReportPlugin> reports,
+                MavenProject project,
+                ProjectBuilder projectBuilder,
+                RepositorySystem repositorySystem,
+                ProjectBuildingRequest buildingRequest,
+                ProjectMetadataCache projectMetadataCache) {
+            this(
+                    log,
+                    sink,
+                    locale,
+                    i18n,
+                    plugins,
+                    reports,
+                    project,
+                    projectBuilder,
+                    repositorySystem,
+                    buildingRequest,
+                    projectMetadataCache,
+                    1);
+        }
+
+        /**
+         * @param log {@link #log}
+         * @param sink {@link Sink}
+         * @param locale {@link Locale}
+         * @param i18n {@link I18N}
+         * @param plugins {@link Artifact}
+         * @param reports {@link Artifact}
+         * @param project {@link MavenProject}
+         * @param projectBuilder {@link ProjectBuilder}
+         * @param repositorySystem {@link RepositorySystem}
+         * @param buildingRequest {@link ProjectBuildingRequest}
+         * @param projectMetadataCache {@link ProjectMetadataCache}
+         * @param threads the number of threads building the projects of the plugins, <code>0</code> for one per
+         * available processor.
+         * @since 3.6.2
+         */
+        public PluginsRenderer(
+                Log log,
+                Sink sink,
+                Locale locale,
+                I18N i18n,
+                List<Plugin> plugins,
+                List<ReportPlugin> reports,
+                MavenProject project,
+                ProjectBuilder projectBuilder,
+                RepositorySystem repositorySystem,
+                ProjectBuildingRequest buildingRequest,
+                ProjectMetadataCache projectMetadataCache,
+                int threads) {
             super(sink, i18n, locale);
 
             this.log = log;
@@ -151,6 +257,10 @@ public class PluginsReport extends AbstractProjectInfoReport {
             this.repositorySystem = repositorySystem;
 
             this.buildingRequest = buildingRequest;
+
+            this.projectMetadataCache = projectMetadataCache;
+
+            this.threads = threads;
         }
 
         @Override
@@ -194,22 +304,32 @@ public class PluginsReport extends AbstractProjectInfoReport {
             buildRequest.setRemoteRepositories(project.getPluginArtifactRepositories());
             buildRequest.setProcessPlugins(false);
 
+            List<Artifact> pluginArtifacts = new ArrayList<>(list.size());
             for (GAV plugin : list) {
                 VersionRange versionRange = VersionRange.createFromVersion(plugin.getVersion());
 
-                Artifact pluginArtifact = repositorySystem.createProjectArtifact(
-                        plugin.getGroupId(), plugin.getArtifactId(), versionRange.toString());
+                pluginArtifacts.add(repositorySystem.createProjectArtifact(
+                        plugin.getGroupId(), plugin.getArtifactId(), versionRange.toString()));
+            }
+
+            List<Future<ProjectMetadata>> pluginProjects = buildPluginProjects(pluginArtifacts, buildRequest);
+
+            for (int i = 0; i < list.size(); i++) {
+                GAV plugin = list.get(i);
+                ProjectMetadata pluginProject = null;
                 try {
-                    MavenProject pluginProject =
-                            projectBuilder.build(pluginArtifact, buildRequest).getProject();
+                    pluginProject = getPluginProject(pluginProjects != null ? pluginProjects.get(i) : null);
+                } catch (ProjectBuildingException e) {
+                    log.info("Could not build project for " + plugin.getArtifactId(), e);
+                }
 
+                if (pluginProject != null) {
                     tableRow(getPluginRow(
                             pluginProject.getGroupId(),
                             pluginProject.getArtifactId(),
                             pluginProject.getVersion(),
                             pluginProject.getUrl()));
-                } catch (ProjectBuildingException e) {
-                    log.info("Could not build project for " + plugin.getArtifactId(), e);
+                } else {
                     tableRow(getPluginRow(plugin.getGroupId(), plugin.getArtifactId(), plugin.getVersion(), null));
                 }
             }
@@ -222,6 +342,48 @@ public class PluginsReport extends AbstractProjectInfoReport {
         // Private methods
         // ----------------------------------------------------------------------
 
+        /**
+         * @return the builds of the projects, in the order of the artifacts, or <code>null</code> if interrupted: the
+         * projects are then not built at all, the interrupted build has to stop as soon as possible.
+         */
+        private List<Future<ProjectMetadata>> buildPluginProjects(
+                List<Artifact> pluginArtifacts, ProjectBuildingRequest buildRequest) {
+            try {
+                return projectMetadataCache.buildAll(projectBuilder, pluginArtifacts, false, buildRequest, threads);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                log.debug("Interrupted while building the plugin projects, rendering the plugins without them");
+                return null;
+            }
+        }
+
+        /**
+         * @param pluginProject the build of the project of the plugin, could be null.
+         * @return the project of the plugin, or <code>null</code> if it was not built because of an interruption.
+         * @throws ProjectBuildingException if the project can't be built.
+         */
+        private ProjectMetadata getPluginProject(Future<ProjectMetadata> pluginProject)
+                throws ProjectBuildingException {
+            if (pluginProject == null) {
+                return null;
+            }
+
+            try {
+                return pluginProject.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return null;
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof ProjectBuildingException) {
+                    throw (ProjectBuildingException) e.getCause();
+                }
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+                throw new IllegalStateException(e.getCause());
+            }
+        }
+
         private String[] getPluginTableHeader() {
             // reused key...
             String groupId = getI18nString("dependency-management", "column.groupId");
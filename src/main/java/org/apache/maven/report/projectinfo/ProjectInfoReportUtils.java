@@ -28,16 +28,25 @@ import javax.net.ssl.X509TrustManager;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InterruptedIOException;
 import java.net.Authenticator;
+import java.net.InetSocketAddress;
 import java.net.PasswordAuthentication;
 import java.net.URI;
 import java.net.URL;
 import java.net.URLConnection;
+import java.nio.charset.StandardCharsets;
 import java.security.KeyManagementException;
 import java.security.NoSuchAlgorithmException;
 import java.security.SecureRandom;
 import java.security.cert.X509Certificate;
-import java.util.Properties;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.regex.Pattern;
 
 import org.apache.commons.validator.routines.RegexValidator;
 import org.apache.commons.validator.routines.UrlValidator;
@@ -73,6 +82,29 @@ public class ProjectInfoReportUtils {
     /** The default encoding used to transform bytes to characters */
     private static final String DEFAULT_ENCODING = "UTF-8";
 
+    /** The fetches of URL contents in progress, shared by the concurrent callers of the same content */
+    private static final SingleFlight<String, String> CONTENT_FETCHES = new SingleFlight<>();
+
+    /** The maximum number of concurrent connections to remote URLs */
+    private static final int MAX_CONNECTIONS = 8;
+
+    private static final Semaphore CONNECTIONS = new Semaphore(MAX_CONNECTIONS);
+
+    /** The credentials of the proxies tunneling HTTPS, by <code>host:port</code>, answered by ProxyAuthenticator */
+    private static final Map<String, PasswordAuthentication> PROXY_CREDENTIALS = new ConcurrentHashMap<>();
+
+    private static final HostnameVerifier TRUST_ALL_HOSTNAMES = new HostnameVerifier() {
+        /** {@inheritDoc} */
+        public boolean verify(String urlHostName, SSLSession session) {
+            return true;
+        }
+    };
+
+    /** Shared by the connections, so that the JDK can reuse them */
+    private static SSLSocketFactory trustAllSocketFactory;
+
+    private static boolean proxyAuthenticatorInstalled;
+
     /**
      * Get the input stream using UTF-8 as character encoding from a URL.
      *
@@ -110,14 +142,43 @@ public class ProjectInfoReportUtils {
      * @throws IOException if any
      * @since 2.3
      */
-    public static String getContent(URL url, MavenProject project, Settings settings, String encoding)
+    public static String getContent(
+            final URL url, final MavenProject project, final Settings settings, String encoding)
             throws IOException {
-        String scheme = url.getProtocol();
-
         if (encoding == null || encoding.isEmpty()) {
             encoding = DEFAULT_ENCODING;
         }
 
+        final String contentEncoding = encoding;
+        String key = url.toExternalForm() + '|' + contentEncoding + '|' + (project != null ? project.getId() : "");
+        try {
+            return CONTENT_FETCHES.execute(key, new Callable<String>() {
+                public String call() throws IOException {
+                    return fetchContent(url, project, settings, contentEncoding);
+                }
+            });
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new IOException(e.getCause());
+        }
+    }
+
+    /**
+     * @return the fetches of URL contents, whose counters show how many concurrent fetches of the same content were
+     * coalesced.
+     * @see #getContent(URL, MavenProject, Settings, String)
+     * @since 3.6.2
+     */
+    public static SingleFlight<String, String> getContentFetches() {
+        return CONTENT_FETCHES;
+    }
+
+    private static String fetchContent(URL url, MavenProject project, Settings settings, String encoding)
+            throws IOException {
+        String scheme = url.getProtocol();
+
         if ("file".equals(scheme)) {
             InputStream in = null;
             try {
@@ -135,43 +196,13 @@ public class ProjectInfoReportUtils {
             }
         }
 
-        Proxy proxy = settings.getActiveProxy();
-        if (proxy != null) {
-            if ("http".equals(scheme) || "https".equals(scheme) || "ftp".equals(scheme)) {
-                scheme += ".";
-            } else {
-                scheme = "";
-            }
-
-            String host = proxy.getHost();
-            if (!(host == null || host.isEmpty())) {
-                Properties p = System.getProperties();
-                p.setProperty(scheme + "proxySet", "true");
-                p.setProperty(scheme + "proxyHost", host);
-                p.setProperty(scheme + "proxyPort", String.valueOf(proxy.getPort()));
-                if (!StringUtils.isEmpty(proxy.getNonProxyHosts())) {
-                    p.setProperty(scheme + "nonProxyHosts", proxy.getNonProxyHosts());
-                }
-
-                final String userName = proxy.getUsername();
-                if (!(userName == null || userName.isEmpty())) {
-                    final String pwd = StringUtils.isEmpty(proxy.getPassword()) ? "" : proxy.getPassword();
-                    Authenticator.setDefault(new Authenticator() {
-                        /** {@inheritDoc} */
-                        @Override
-                        protected PasswordAuthentication getPasswordAuthentication() {
-                            return new PasswordAuthentication(userName, pwd.toCharArray());
-                        }
-                    });
-                }
-            }
-        }
-
+        acquireConnection();
         InputStream in = null;
         try {
-            URLConnection conn = getURLConnection(url, project, settings);
+            URLConnection conn = openConnection(url, project, settings);
             in = conn.getInputStream();
 
+            // read to the end and closed, so that the JDK keeps the connection alive for the next fetches
             final String string = IOUtil.toString(in, encoding);
 
             in.close();
@@ -180,9 +211,73 @@ public class ProjectInfoReportUtils {
             return string;
         } finally {
             IOUtil.close(in);
+            releaseConnection();
         }
     }
 
+    /**
+     * Wait for one of the connections to remote URLs, whose number is bounded for all the reports.
+     *
+     * @throws InterruptedIOException if interrupted while waiting
+     * @see #releaseConnection()
+     * @since 3.6.2
+     */
+    static void acquireConnection() throws InterruptedIOException {
+        try {
+            CONNECTIONS.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for a connection");
+        }
+    }
+
+    /**
+     * @see #acquireConnection()
+     * @since 3.6.2
+     */
+    static void releaseConnection() {
+        CONNECTIONS.release();
+    }
+
+    /**
+     * Open a connection to a remote URL, through the active proxy of the settings if any. The proxy is given to the
+     * connection instead of being set in the system properties, so concurrent connections with different settings
+     * don't interfere.
+     *
+     * @param url not null
+     * @param project could be null
+     * @param settings not null to handle proxy settings
+     * @return the url connection with auth if required, not connected yet.
+     * @throws IOException if any
+     * @since 3.6.2
+     */
+    static URLConnection openConnection(URL url, MavenProject project, Settings settings) throws IOException {
+        Proxy activeProxy = settings.getActiveProxy();
+        java.net.Proxy proxy = getProxy(url, activeProxy);
+
+        URLConnection conn = getURLConnection(url, proxy, project, settings);
+
+        if (proxy != null && StringUtils.isNotEmpty(activeProxy.getUsername())) {
+            String pwd = StringUtils.isEmpty(activeProxy.getPassword()) ? "" : activeProxy.getPassword();
+            if ("https".equals(url.getProtocol())) {
+                // the headers of the connection are not sent with the CONNECT request of the tunnel, but to the
+                // remote host inside it: the challenge of the proxy is answered by ProxyAuthenticator instead
+                PROXY_CREDENTIALS.put(
+                        activeProxy.getHost().toLowerCase(Locale.ENGLISH) + ':' + activeProxy.getPort(),
+                        new PasswordAuthentication(activeProxy.getUsername(), pwd.toCharArray()));
+                installProxyAuthenticator();
+            } else {
+                // per connection, the default authenticator of the JVM belongs to the embedding application
+                String up = activeProxy.getUsername() + ":" + pwd;
+                String upEncoded = new String(Base64.encodeBase64(up.getBytes(StandardCharsets.UTF_8)));
+
+                conn.setRequestProperty("Proxy-Authorization", "Basic " + upEncoded);
+            }
+        }
+
+        return conn;
+    }
+
     /**
      * @param repositorySystem not null
      * @param artifact not null
@@ -195,6 +290,24 @@ public class ProjectInfoReportUtils {
             Artifact artifact,
             ProjectBuilder projectBuilder,
             ProjectBuildingRequest buildingRequest) {
+        return getArtifactUrl(repositorySystem, artifact, projectBuilder, buildingRequest, new ProjectMetadataCache(0));
+    }
+
+    /**
+     * @param repositorySystem not null
+     * @param artifact not null
+     * @param projectBuilder not null
+     * @param buildingRequest not null
+     * @param projectMetadataCache not null
+     * @return the artifact url or null if an error occurred.
+     * @since 3.6.2
+     */
+    public static String getArtifactUrl(
+            RepositorySystem repositorySystem,
+            Artifact artifact,
+            ProjectBuilder projectBuilder,
+            ProjectBuildingRequest buildingRequest,
+            ProjectMetadataCache projectMetadataCache) {
         if (Artifact.SCOPE_SYSTEM.equals(artifact.getScope())) {
             return null;
         }
@@ -205,8 +318,8 @@ public class ProjectInfoReportUtils {
                     copyArtifact.getGroupId(), copyArtifact.getArtifactId(), copyArtifact.getVersion());
         }
         try {
-            MavenProject pluginProject =
-                    projectBuilder.build(copyArtifact, buildingRequest).getProject();
+            ProjectMetadata pluginProject =
+                    projectMetadataCache.build(projectBuilder, copyArtifact, false, buildingRequest);
 
             if (isArtifactUrlValid(pluginProject.getUrl())) {
                 return pluginProject.getUrl();
@@ -218,6 +331,24 @@ public class ProjectInfoReportUtils {
         }
     }
 
+    /**
+     * @param artifact not null
+     * @param artifactProject the metadata of the project of the artifact, not null.
+     * @return the artifact url or null if the artifact is a system dependency or its project has no valid url.
+     * @since 3.6.2
+     */
+    public static String getArtifactUrl(Artifact artifact, ProjectMetadata artifactProject) {
+        if (Artifact.SCOPE_SYSTEM.equals(artifact.getScope())) {
+            return null;
+        }
+
+        if (isArtifactUrlValid(artifactProject.getUrl())) {
+            return artifactProject.getUrl();
+        }
+
+        return null;
+    }
+
     /**
      * @param artifactId not null
      * @param link could be null
@@ -259,15 +390,112 @@ public class ProjectInfoReportUtils {
         return URI.create(uri).getHost();
     }
 
+    /**
+     * @param url the URL of a remote host, not null
+     * @param proxy the active proxy of the settings, could be null.
+     * @return the proxy to connect to the URL with, null to connect directly.
+     */
+    private static java.net.Proxy getProxy(URL url, Proxy proxy) {
+        String scheme = url.getProtocol();
+        if (proxy == null
+                || StringUtils.isEmpty(proxy.getHost())
+                || !("http".equals(scheme) || "https".equals(scheme) || "ftp".equals(scheme))
+                || isNonProxyHost(url.getHost(), proxy.getNonProxyHosts())) {
+            return null;
+        }
+
+        return new java.net.Proxy(
+                java.net.Proxy.Type.HTTP, InetSocketAddress.createUnresolved(proxy.getHost(), proxy.getPort()));
+    }
+
+    /**
+     * @param host the host to connect to, could be null.
+     * @param nonProxyHosts the hosts patterns separated by <code>|</code> or <code>,</code>, with <code>*</code>
+     * wildcards, could be null.
+     * @return <code>true</code> if the host matches one of the patterns.
+     */
+    private static boolean isNonProxyHost(String host, String nonProxyHosts) {
+        if (StringUtils.isEmpty(host) || StringUtils.isEmpty(nonProxyHosts)) {
+            return false;
+        }
+
+        for (String pattern : nonProxyHosts.split("[|,]")) {
+            pattern = pattern.trim();
+            if (pattern.isEmpty()) {
+                continue;
+            }
+
+            StringBuilder regex = new StringBuilder();
+            String[] parts = pattern.split("\\*", -1);
+            for (int i = 0; i < parts.length; i++) {
+                if (i > 0) {
+                    regex.append(".*");
+                }
+                if (!parts[i].isEmpty()) {
+                    regex.append(Pattern.quote(parts[i]));
+                }
+            }
+            if (Pattern.compile(regex.toString(), Pattern.CASE_INSENSITIVE).matcher(host).matches()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Install once {@link ProxyAuthenticator} as the default authenticator. Java 8 has no authenticator per
+     * connection, and tunneling HTTPS through a proxy only authenticates by answering the challenge of the proxy.
+     */
+    private static synchronized void installProxyAuthenticator() {
+        if (!proxyAuthenticatorInstalled) {
+            Authenticator.setDefault(new ProxyAuthenticator());
+            proxyAuthenticatorInstalled = true;
+        }
+    }
+
+    /**
+     * @return the factory of the SSL sockets which trust all the certificates, or null if it can't be created.
+     */
+    private static synchronized SSLSocketFactory getTrustAllSocketFactory() {
+        if (trustAllSocketFactory == null) {
+            TrustManager[] trustAllCerts = new TrustManager[] {
+                new X509TrustManager() {
+                    /** {@inheritDoc} */
+                    public void checkClientTrusted(final X509Certificate[] chain, final String authType) {}
+
+                    /** {@inheritDoc} */
+                    public void checkServerTrusted(final X509Certificate[] chain, final String authType) {}
+
+                    /** {@inheritDoc} */
+                    public X509Certificate[] getAcceptedIssuers() {
+                        return null;
+                    }
+                }
+            };
+
+            try {
+                SSLContext sslContext = SSLContext.getInstance("SSL");
+                sslContext.init(null, trustAllCerts, new SecureRandom());
+
+                trustAllSocketFactory = sslContext.getSocketFactory();
+            } catch (NoSuchAlgorithmException | KeyManagementException e1) {
+                // ignore
+            }
+        }
+        return trustAllSocketFactory;
+    }
+
     /**
      * @param url not null
+     * @param proxy the proxy to connect through, null to connect directly.
      * @param project not null
      * @param settings not null
      * @return the url connection with auth if required. Don't check the certificate if SSL scheme.
      * @throws IOException if any
      */
-    private static URLConnection getURLConnection(URL url, MavenProject project, Settings settings) throws IOException {
-        URLConnection conn = url.openConnection();
+    private static URLConnection getURLConnection(
+            URL url, java.net.Proxy proxy, MavenProject project, Settings settings) throws IOException {
+        URLConnection conn = proxy != null ? url.openConnection(proxy) : url.openConnection();
         conn.setConnectTimeout(TIMEOUT);
         conn.setReadTimeout(TIMEOUT);
 
@@ -316,41 +544,30 @@ public class ProjectInfoReportUtils {
         }
 
         if (conn instanceof HttpsURLConnection) {
-            HostnameVerifier hostnameverifier = new HostnameVerifier() {
-                /** {@inheritDoc} */
-                public boolean verify(String urlHostName, SSLSession session) {
-                    return true;
-                }
-            };
-            ((HttpsURLConnection) conn).setHostnameVerifier(hostnameverifier);
-
-            TrustManager[] trustAllCerts = new TrustManager[] {
-                new X509TrustManager() {
-                    /** {@inheritDoc} */
-                    public void checkClientTrusted(final X509Certificate[] chain, final String authType) {}
-
-                    /** {@inheritDoc} */
-                    public void checkServerTrusted(final X509Certificate[] chain, final String authType) {}
-
-                    /** {@inheritDoc} */
-                    public X509Certificate[] getAcceptedIssuers() {
-                        return null;
-                    }
-                }
-            };
-
-            try {
-                SSLContext sslContext = SSLContext.getInstance("SSL");
-                sslContext.init(null, trustAllCerts, new SecureRandom());
-
-                SSLSocketFactory sslSocketFactory = sslContext.getSocketFactory();
+            ((HttpsURLConnection) conn).setHostnameVerifier(TRUST_ALL_HOSTNAMES);
 
+            SSLSocketFactory sslSocketFactory = getTrustAllSocketFactory();
+            if (sslSocketFactory != null) {
                 ((HttpsURLConnection) conn).setSSLSocketFactory(sslSocketFactory);
-            } catch (NoSuchAlgorithmException | KeyManagementException e1) {
-                // ignore
             }
         }
 
         return conn;
     }
+
+    /**
+     * Answers the authentication requests of the proxies tunneling HTTPS for the reports, and only them: the
+     * credentials are never given to the remote hosts. Note that the JDK disables the <code>Basic</code> scheme for
+     * HTTPS tunnels unless the <code>jdk.http.auth.tunneling.disabledSchemes</code> system property allows it.
+     */
+    private static class ProxyAuthenticator extends Authenticator {
+        /** {@inheritDoc} */
+        @Override
+        protected PasswordAuthentication getPasswordAuthentication() {
+            if (getRequestorType() != RequestorType.PROXY || getRequestingHost() == null) {
+                return null;
+            }
+            return PROXY_CREDENTIALS.get(getRequestingHost().toLowerCase(Locale.ENGLISH) + ':' + getRequestingPort());
+        }
+    }
 }
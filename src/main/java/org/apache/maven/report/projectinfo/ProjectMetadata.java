@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.report.projectinfo;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.apache.maven.model.License;
+import org.apache.maven.project.MavenProject;
+
+/**
+ * The information displayed by the reports about a project built from the repository. Unlike {@link MavenProject},
+ * it doesn't keep the whole model of the project, so it can be cached cheaply.
+ *
+ * @since 3.6.2
+ */
+public class ProjectMetadata {
+    private final String groupId;
+
+    private final String artifactId;
+
+    private final String version;
+
+    private final String name;
+
+    private final String description;
+
+    private final String url;
+
+    private final List<License> licenses;
+
+    /**
+     * @param project the project built from the repository, not null.
+     */
+    public ProjectMetadata(MavenProject project) {
+        this.groupId = project.getGroupId();
+        this.artifactId = project.getArtifactId();
+        this.version = project.getVersion();
+        this.name = project.getName();
+        this.description = project.getDescription();
+        this.url = project.getUrl();
+        this.licenses = Collections.unmodifiableList(new ArrayList<>(project.getLicenses()));
+    }
+
+    /**
+     * @return the groupId of the project.
+     */
+    public String getGroupId() {
+        return groupId;
+    }
+
+    /**
+     * @return the artifactId of the project.
+     */
+    public String getArtifactId() {
+        return artifactId;
+    }
+
+    /**
+     * @return the version of the project.
+     */
+    public String getVersion() {
+        return version;
+    }
+
+    /**
+     * @return the name of the project, could be null.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return the description of the project, could be null.
+     */
+    public String getDescription() {
+        return description;
+    }
+
+    /**
+     * @return the url of the project, could be null.
+     */
+    public String getUrl() {
+        return url;
+    }
+
+    /**
+     * @return the licenses of the project, never null.
+     */
+    public List<License> getLicenses() {
+        return licenses;
+    }
+}
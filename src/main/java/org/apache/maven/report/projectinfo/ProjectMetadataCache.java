@@ -0,0 +1,268 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.report.projectinfo;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.maven.artifact.Artifact;
+import org.apache.maven.artifact.repository.ArtifactRepository;
+import org.apache.maven.execution.MavenSession;
+import org.apache.maven.project.DefaultProjectBuildingRequest;
+import org.apache.maven.project.ProjectBuilder;
+import org.apache.maven.project.ProjectBuildingException;
+import org.apache.maven.project.ProjectBuildingRequest;
+import org.eclipse.aether.RepositorySystemSession;
+import org.eclipse.aether.SessionData;
+
+/**
+ * Cache of the projects built from the repository, shared by all the reports executed in a {@link MavenSession}.
+ * Entries are keyed by <code>groupId:artifactId:version</code> and the remote repositories of the request, so that
+ * a project, or the failure to build it, is not shared between reports resolving from different repositories. They
+ * only keep a {@link ProjectMetadata} projection of the built project, or the failure to build it. When there are
+ * more than <code>maxEntries</code> entries, the least recently used ones are evicted. Concurrent builds of the same
+ * project are coalesced into one.
+ *
+ * @since 3.6.2
+ */
+public class ProjectMetadataCache {
+    /**
+     * The maximum number of entries of the cache shared in a session.
+     */
+    public static final int DEFAULT_MAX_ENTRIES = 10000;
+
+    private static final String SESSION_KEY = ProjectMetadataCache.class.getName();
+
+    private final Map<String, Object> entries;
+
+    private final SingleFlight<String, Object> builds = new SingleFlight<>();
+
+    private final AtomicLong hits = new AtomicLong();
+
+    private final AtomicLong misses = new AtomicLong();
+
+    private final AtomicLong buildNanos = new AtomicLong();
+
+    /**
+     * @param maxEntries the maximum number of entries to keep, <code>0</code> to not cache anything.
+     */
+    public ProjectMetadataCache(final int maxEntries) {
+        this.entries = Collections.synchronizedMap(new LinkedHashMap<String, Object>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Object> eldest) {
+                return size() > maxEntries;
+            }
+        });
+    }
+
+    /**
+     * @param session the current session, could be null.
+     * @return the cache shared by all the reports of the session, or a new one if the session can't hold it.
+     */
+    public static ProjectMetadataCache getInstance(MavenSession session) {
+        RepositorySystemSession repositorySession = session != null ? session.getRepositorySession() : null;
+        if (repositorySession == null || repositorySession.getData() == null) {
+            return new ProjectMetadataCache(DEFAULT_MAX_ENTRIES);
+        }
+
+        SessionData data = repositorySession.getData();
+        Object cache = data.get(SESSION_KEY);
+        if (cache == null) {
+            data.set(SESSION_KEY, null, new ProjectMetadataCache(DEFAULT_MAX_ENTRIES));
+            cache = data.get(SESSION_KEY);
+        }
+
+        if (cache instanceof ProjectMetadataCache) {
+            return (ProjectMetadataCache) cache;
+        }
+
+        // stored by another version of the plugin
+        return new ProjectMetadataCache(DEFAULT_MAX_ENTRIES);
+    }
+
+    /**
+     * Build the project of the given artifact, unless it was already built in the session.
+     *
+     * @param projectBuilder not null
+     * @param projectArtifact the artifact of the project to build, not null.
+     * @param allowStubModel <code>true</code> to build a stub project if the POM is missing from the repository.
+     * @param buildingRequest not null
+     * @return the metadata of the project.
+     * @throws ProjectBuildingException if the project can't be built, also when cached.
+     * @see ProjectBuilder#build(Artifact, boolean, ProjectBuildingRequest)
+     */
+    public ProjectMetadata build(
+            final ProjectBuilder projectBuilder,
+            final Artifact projectArtifact,
+            final boolean allowStubModel,
+            final ProjectBuildingRequest buildingRequest)
+            throws ProjectBuildingException {
+        final String key = getKey(projectArtifact, allowStubModel, buildingRequest);
+
+        Object entry = entries.get(key);
+        if (entry != null) {
+            hits.incrementAndGet();
+        } else {
+            try {
+                entry = builds.execute(key, new Callable<Object>() {
+                    public Object call() {
+                        // built by another thread since the lookup
+                        Object value = entries.get(key);
+                        if (value != null) {
+                            hits.incrementAndGet();
+                            return value;
+                        }
+
+                        misses.incrementAndGet();
+                        long start = System.nanoTime();
+                        try {
+                            value = new ProjectMetadata(projectBuilder
+                                    .build(projectArtifact, allowStubModel, buildingRequest)
+                                    .getProject());
+                        } catch (ProjectBuildingException e) {
+                            value = e;
+                        } finally {
+                            buildNanos.addAndGet(System.nanoTime() - start);
+                        }
+                        entries.put(key, value);
+                        return value;
+                    }
+                });
+            } catch (ExecutionException e) {
+                // never thrown, the build failures are returned
+                throw new IllegalStateException(e);
+            }
+        }
+
+        if (entry instanceof ProjectBuildingException) {
+            throw (ProjectBuildingException) entry;
+        }
+
+        return (ProjectMetadata) entry;
+    }
+
+    /**
+     * Build the projects of the given artifacts concurrently, unless they were already built in the session.
+     *
+     * @param projectBuilder not null
+     * @param projectArtifacts the artifacts of the projects to build, not null.
+     * @param allowStubModel <code>true</code> to build stub projects if the POMs are missing from the repository.
+     * @param buildingRequest not null, copied for each build.
+     * @param threads the maximum number of concurrent builds, <code>0</code> for one per available processor.
+     * @return the completed builds, in the order of the artifacts. A build that failed throws an
+     * {@link ExecutionException} caused by its {@link ProjectBuildingException}.
+     * @throws InterruptedException if interrupted while waiting for the builds.
+     * @see #build(ProjectBuilder, Artifact, boolean, ProjectBuildingRequest)
+     * @see ParallelTasks#invokeAll(List, int, String)
+     */
+    public List<Future<ProjectMetadata>> buildAll(
+            final ProjectBuilder projectBuilder,
+            List<Artifact> projectArtifacts,
+            final boolean allowStubModel,
+            final ProjectBuildingRequest buildingRequest,
+            int threads)
+            throws InterruptedException {
+        List<Callable<ProjectMetadata>> tasks = new ArrayList<>(projectArtifacts.size());
+        for (final Artifact projectArtifact : projectArtifacts) {
+            tasks.add(new Callable<ProjectMetadata>() {
+                public ProjectMetadata call() throws ProjectBuildingException {
+                    return build(
+                            projectBuilder,
+                            projectArtifact,
+                            allowStubModel,
+                            new DefaultProjectBuildingRequest(buildingRequest));
+                }
+            });
+        }
+
+        return ParallelTasks.invokeAll(tasks, threads, "mpir-project-builder");
+    }
+
+    /**
+     * @return the number of lookups served from the cache.
+     */
+    public long getHits() {
+        return hits.get();
+    }
+
+    /**
+     * @return the number of lookups which required to build the project.
+     */
+    public long getMisses() {
+        return misses.get();
+    }
+
+    /**
+     * @return the time spent building projects, in nanoseconds, summed over the threads building them.
+     */
+    public long getBuildNanos() {
+        return buildNanos.get();
+    }
+
+    /**
+     * @return the number of lookups which waited for the build of the same project by another thread.
+     */
+    public long getCoalesced() {
+        return builds.getCoalesced();
+    }
+
+    /**
+     * @return the number of entries in the cache.
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    @Override
+    public String toString() {
+        return "Project metadata cache: " + getHits() + " hits, " + getMisses() + " misses, " + getCoalesced()
+                + " coalesced, " + size() + " entries";
+    }
+
+    private static String getKey(
+            Artifact projectArtifact, boolean allowStubModel, ProjectBuildingRequest buildingRequest) {
+        StringBuilder key = new StringBuilder();
+        key.append(projectArtifact.getGroupId())
+                .append(':')
+                .append(projectArtifact.getArtifactId())
+                .append(':')
+                .append(projectArtifact.getVersion());
+        if (allowStubModel) {
+            key.append(":stub");
+        }
+
+        List<ArtifactRepository> repositories = buildingRequest.getRemoteRepositories();
+        if (repositories != null) {
+            for (ArtifactRepository repository : repositories) {
+                key.append('|').append(repository.getId()).append('=').append(repository.getUrl());
+            }
+        }
+
+        return key.toString();
+    }
+}
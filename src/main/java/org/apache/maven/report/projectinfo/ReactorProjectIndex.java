@@ -0,0 +1,153 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.report.projectinfo;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.maven.execution.MavenSession;
+import org.apache.maven.project.MavenProject;
+import org.eclipse.aether.RepositorySystemSession;
+import org.eclipse.aether.SessionData;
+
+/**
+ * Index of the reactor projects, shared by all the reports executed in a {@link MavenSession}. The projects are
+ * indexed once by canonical base directory and by <code>groupId:artifactId</code>, so that looking up a module or
+ * checking the reactor membership of a dependency doesn't scan the whole reactor.
+ *
+ * @since 3.6.2
+ */
+public class ReactorProjectIndex {
+    private static final String SESSION_KEY = ReactorProjectIndex.class.getName();
+
+    private final List<MavenProject> reactorProjects;
+
+    private final Map<File, MavenProject> projectsByBasedir = new HashMap<>();
+
+    private final Map<String, MavenProject> projectsByKey = new HashMap<>();
+
+    /**
+     * @param reactorProjects the projects of the reactor, could be null.
+     */
+    public ReactorProjectIndex(List<MavenProject> reactorProjects) {
+        this.reactorProjects =
+                reactorProjects != null ? reactorProjects : Collections.<MavenProject>emptyList();
+
+        for (MavenProject reactorProject : this.reactorProjects) {
+            if (reactorProject.getBasedir() != null) {
+                File basedir = getCanonicalFile(reactorProject.getBasedir());
+                if (!projectsByBasedir.containsKey(basedir)) {
+                    projectsByBasedir.put(basedir, reactorProject);
+                }
+            }
+
+            String key = getKey(reactorProject.getGroupId(), reactorProject.getArtifactId());
+            if (!projectsByKey.containsKey(key)) {
+                projectsByKey.put(key, reactorProject);
+            }
+        }
+    }
+
+    /**
+     * @param session the current session, could be null.
+     * @param reactorProjects the projects of the reactor, could be null.
+     * @return the index shared by all the reports of the session, or a new one if the session can't hold it or holds
+     * the index of other projects.
+     */
+    public static ReactorProjectIndex getInstance(MavenSession session, List<MavenProject> reactorProjects) {
+        RepositorySystemSession repositorySession = session != null ? session.getRepositorySession() : null;
+        if (repositorySession == null || repositorySession.getData() == null) {
+            return new ReactorProjectIndex(reactorProjects);
+        }
+
+        SessionData data = repositorySession.getData();
+        Object index = data.get(SESSION_KEY);
+        if (index == null) {
+            data.set(SESSION_KEY, null, new ReactorProjectIndex(reactorProjects));
+            index = data.get(SESSION_KEY);
+        }
+
+        if (index instanceof ReactorProjectIndex && ((ReactorProjectIndex) index).isIndexOf(reactorProjects)) {
+            return (ReactorProjectIndex) index;
+        }
+
+        // stored by another version of the plugin, or for another reactor
+        return new ReactorProjectIndex(reactorProjects);
+    }
+
+    /**
+     * @param basedir the base directory of the project, not necessarily canonical, not null.
+     * @return the reactor project in this directory, or <code>null</code> if there is none.
+     */
+    public MavenProject getProject(File basedir) {
+        return projectsByBasedir.get(getCanonicalFile(basedir));
+    }
+
+    /**
+     * @param groupId not null
+     * @param artifactId not null
+     * @return the reactor project with these coordinates, or <code>null</code> if there is none.
+     */
+    public MavenProject getProject(String groupId, String artifactId) {
+        return projectsByKey.get(getKey(groupId, artifactId));
+    }
+
+    /**
+     * @param groupId not null
+     * @param artifactId not null
+     * @return <code>true</code> if there is a reactor project with these coordinates.
+     */
+    public boolean contains(String groupId, String artifactId) {
+        return projectsByKey.containsKey(getKey(groupId, artifactId));
+    }
+
+    /**
+     * @return the number of reactor projects.
+     */
+    public int size() {
+        return reactorProjects.size();
+    }
+
+    // ----------------------------------------------------------------------
+    // Private methods
+    // ----------------------------------------------------------------------
+
+    private boolean isIndexOf(List<MavenProject> projects) {
+        if (projects == reactorProjects) {
+            return true;
+        }
+        return projects != null ? projects.equals(reactorProjects) : reactorProjects.isEmpty();
+    }
+
+    private static File getCanonicalFile(File file) {
+        try {
+            return file.getCanonicalFile();
+        } catch (IOException e) {
+            return file.getAbsoluteFile();
+        }
+    }
+
+    private static String getKey(String groupId, String artifactId) {
+        return groupId + ':' + artifactId;
+    }
+}
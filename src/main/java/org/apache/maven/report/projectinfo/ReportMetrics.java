@@ -0,0 +1,404 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.report.projectinfo;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.apache.maven.doxia.sink.Sink;
+
+/**
+ * Metrics of the generation of a report: its duration, the number of events sent to its sink, the duration and
+ * number of sink events of each of its sections, and the number and duration of the expensive operations it
+ * performed, such as building projects or fetching remote contents. They can be written as JSON, so that the
+ * generation of the reports can be compared across builds.
+ *
+ * @since 3.6.2
+ */
+public class ReportMetrics {
+    private final String report;
+
+    private final String project;
+
+    private final Map<String, Long> counters = new LinkedHashMap<>();
+
+    private final Map<String, Long> timings = new LinkedHashMap<>();
+
+    private final List<Section> sections = new ArrayList<>();
+
+    private long startNanos;
+
+    private long elapsedNanos;
+
+    private long sinkEvents;
+
+    /**
+     * @param report the output name of the report, not null.
+     * @param project the id of the project of the report, could be null.
+     */
+    public ReportMetrics(String report, String project) {
+        this.report = report;
+        this.project = project;
+    }
+
+    /**
+     * Start timing the report.
+     */
+    public void start() {
+        startNanos = System.nanoTime();
+    }
+
+    /**
+     * Stop timing the report.
+     */
+    public void stop() {
+        elapsedNanos = System.nanoTime() - startNanos;
+    }
+
+    /**
+     * @param sink the sink of the report, not null.
+     * @return a sink forwarding all the events to the given one, while counting them and timing the sections.
+     */
+    public Sink instrument(final Sink sink) {
+        return (Sink) Proxy.newProxyInstance(
+                Sink.class.getClassLoader(), new Class<?>[] {Sink.class}, new SinkEventRecorder(sink));
+    }
+
+    /**
+     * Add operations to a counter.
+     *
+     * @param counter the name of the counter, not null.
+     * @param count the number of operations to add.
+     */
+    public synchronized void add(String counter, long count) {
+        Long previous = counters.get(counter);
+        counters.put(counter, previous != null ? previous + count : count);
+    }
+
+    /**
+     * Add timed operations to a counter.
+     *
+     * @param counter the name of the counter, not null.
+     * @param count the number of operations to add.
+     * @param nanos the duration of the operations, in nanoseconds.
+     */
+    public synchronized void add(String counter, long count, long nanos) {
+        add(counter, count);
+        Long previous = timings.get(counter);
+        timings.put(counter, previous != null ? previous + nanos : nanos);
+    }
+
+    /**
+     * @return the output name of the report.
+     */
+    public String getReport() {
+        return report;
+    }
+
+    /**
+     * @return the duration of the report, in nanoseconds.
+     */
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * @return the number of events sent to the instrumented sink.
+     */
+    public long getSinkEvents() {
+        return sinkEvents;
+    }
+
+    /**
+     * @return the counters, in the order they were first added.
+     */
+    public synchronized Map<String, Long> getCounters() {
+        return new LinkedHashMap<>(counters);
+    }
+
+    /**
+     * @return the durations of the timed counters, in nanoseconds.
+     */
+    public synchronized Map<String, Long> getTimings() {
+        return new LinkedHashMap<>(timings);
+    }
+
+    /**
+     * @return the sections of the report, in document order.
+     */
+    public List<Section> getSections() {
+        return Collections.unmodifiableList(sections);
+    }
+
+    /**
+     * @return the metrics as a JSON object.
+     */
+    public synchronized String toJson() {
+        StringBuilder json = new StringBuilder();
+        json.append("{\n");
+        json.append("  \"report\": ").append(quote(report)).append(",\n");
+        json.append("  \"project\": ").append(project != null ? quote(project) : "null").append(",\n");
+        json.append("  \"elapsedMillis\": ").append(toMillis(elapsedNanos)).append(",\n");
+        json.append("  \"sinkEvents\": ").append(sinkEvents).append(",\n");
+
+        json.append("  \"counters\": {");
+        String separator = "\n";
+        for (Map.Entry<String, Long> counter : counters.entrySet()) {
+            json.append(separator).append("    ").append(quote(counter.getKey())).append(": ");
+            json.append(counter.getValue());
+            separator = ",\n";
+        }
+        json.append(counters.isEmpty() ? "},\n" : "\n  },\n");
+
+        json.append("  \"timingsMillis\": {");
+        separator = "\n";
+        for (Map.Entry<String, Long> timing : timings.entrySet()) {
+            json.append(separator).append("    ").append(quote(timing.getKey())).append(": ");
+            json.append(toMillis(timing.getValue()));
+            separator = ",\n";
+        }
+        json.append(timings.isEmpty() ? "},\n" : "\n  },\n");
+
+        json.append("  \"sections\": [");
+        separator = "\n";
+        for (Section section : sections) {
+            json.append(separator).append("    {\"title\": ").append(quote(section.getTitle()));
+            json.append(", \"depth\": ").append(section.getDepth());
+            json.append(", \"elapsedMillis\": ").append(toMillis(section.getElapsedNanos()));
+            json.append(", \"sinkEvents\": ").append(section.getSinkEvents()).append('}');
+            separator = ",\n";
+        }
+        json.append(sections.isEmpty() ? "]\n" : "\n  ]\n");
+        json.append("}\n");
+
+        return json.toString();
+    }
+
+    /**
+     * @param file the file to write the metrics to as JSON, its directory is created when needed.
+     * @throws IOException if the file can't be written.
+     */
+    public void write(File file) throws IOException {
+        Files.createDirectories(file.getAbsoluteFile().getParentFile().toPath());
+        try (Writer writer = Files.newBufferedWriter(file.toPath(), StandardCharsets.UTF_8)) {
+            writer.write(toJson());
+        }
+    }
+
+    /**
+     * @return the lines of a table summarizing the metrics, for the log.
+     */
+    public synchronized List<String> getSummary() {
+        List<String> lines = new ArrayList<>();
+        String format = "%-60s %12s %12s";
+
+        lines.add(String.format(Locale.ROOT, format, "Report " + report, "Time (ms)", "Sink events"));
+        lines.add(String.format(Locale.ROOT, format, "  total", toMillis(elapsedNanos), sinkEvents));
+        for (Section section : sections) {
+            StringBuilder title = new StringBuilder();
+            for (int i = 0; i < section.getDepth(); i++) {
+                title.append("  ");
+            }
+            title.append(abbreviate(section.getTitle(), 58 - title.length()));
+            lines.add(String.format(
+                    Locale.ROOT, format, title, toMillis(section.getElapsedNanos()), section.getSinkEvents()));
+        }
+
+        if (!counters.isEmpty()) {
+            lines.add(String.format(Locale.ROOT, format, "Operations", "Time (ms)", "Count"));
+            for (Map.Entry<String, Long> counter : counters.entrySet()) {
+                Long nanos = timings.get(counter.getKey());
+                lines.add(String.format(
+                        Locale.ROOT,
+                        format,
+                        "  " + counter.getKey(),
+                        nanos != null ? toMillis(nanos) : "",
+                        counter.getValue()));
+            }
+        }
+
+        return lines;
+    }
+
+    // ----------------------------------------------------------------------
+    // Private methods
+    // ----------------------------------------------------------------------
+
+    private static String toMillis(long nanos) {
+        return String.format(Locale.ROOT, "%.3f", nanos / 1000000.0);
+    }
+
+    private static String abbreviate(String text, int length) {
+        return text.length() <= length ? text : text.substring(0, length - 3) + "...";
+    }
+
+    private static String quote(String text) {
+        StringBuilder sb = new StringBuilder(text.length() + 2).append('"');
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '"':
+                    sb.append("\\\"");
+                    break;
+                case '\\':
+                    sb.append("\\\\");
+                    break;
+                case '\n':
+                    sb.append("\\n");
+                    break;
+                case '\r':
+                    sb.append("\\r");
+                    break;
+                case '\t':
+                    sb.append("\\t");
+                    break;
+                default:
+                    if (c < ' ') {
+                        sb.append(String.format(Locale.ROOT, "\\u%04x", (int) c));
+                    } else {
+                        sb.append(c);
+                    }
+            }
+        }
+        return sb.append('"').toString();
+    }
+
+    /**
+     * A section of the report, from its <code>section</code> event to the matching <code>section_</code> event.
+     */
+    public static class Section {
+        private final int depth;
+
+        private final long startNanos;
+
+        private final long startSinkEvents;
+
+        private String title = "";
+
+        private long elapsedNanos;
+
+        private long sinkEvents;
+
+        Section(int depth, long startNanos, long startSinkEvents) {
+            this.depth = depth;
+            this.startNanos = startNanos;
+            this.startSinkEvents = startSinkEvents;
+        }
+
+        /**
+         * @return the text of the title of the section, empty if it has none.
+         */
+        public String getTitle() {
+            return title;
+        }
+
+        /**
+         * @return the depth of the section, <code>1</code> for a top level section.
+         */
+        public int getDepth() {
+            return depth;
+        }
+
+        /**
+         * @return the duration of the section, its subsections included, in nanoseconds.
+         */
+        public long getElapsedNanos() {
+            return elapsedNanos;
+        }
+
+        /**
+         * @return the number of sink events of the section, its subsections included.
+         */
+        public long getSinkEvents() {
+            return sinkEvents;
+        }
+    }
+
+    /**
+     * Counts the events forwarded to the sink, and delimits the sections and their titles.
+     */
+    private class SinkEventRecorder implements InvocationHandler {
+        private final Sink sink;
+
+        private final Deque<Section> openSections = new ArrayDeque<>();
+
+        private StringBuilder title;
+
+        SinkEventRecorder(Sink sink) {
+            this.sink = sink;
+        }
+
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (method.getDeclaringClass() == Object.class) {
+                return method.invoke(sink, args);
+            }
+
+            sinkEvents++;
+            record(method.getName(), args);
+
+            try {
+                return method.invoke(sink, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+
+        private void record(String event, Object[] args) {
+            if (event.startsWith("sectionTitle")) {
+                if (event.endsWith("_")) {
+                    if (title != null && !openSections.isEmpty()) {
+                        openSections.peek().title = title.toString().trim();
+                    }
+                    title = null;
+                } else {
+                    title = new StringBuilder();
+                }
+            } else if (event.startsWith("section")) {
+                if (event.endsWith("_")) {
+                    Section section = openSections.poll();
+                    if (section != null) {
+                        section.elapsedNanos = System.nanoTime() - section.startNanos;
+                        section.sinkEvents = sinkEvents - section.startSinkEvents;
+                    }
+                } else {
+                    Section section = new Section(openSections.size() + 1, System.nanoTime(), sinkEvents - 1);
+                    sections.add(section);
+                    openSections.push(section);
+                }
+            } else if ("text".equals(event) && title != null && args != null && args[0] != null) {
+                title.append(args[0]);
+            }
+        }
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.report.projectinfo;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Coalesces concurrent computations of the same key: while a value is computed, the other threads asking for the
+ * same key wait for that computation instead of running their own. Nothing is kept once the computation is done,
+ * caching is left to the callers. The in-flight computations are kept in a {@link ConcurrentHashMap}, so threads
+ * asking for different keys don't contend on a single lock.
+ *
+ * @param <K> the type of the keys
+ * @param <V> the type of the computed values
+ * @since 3.6.2
+ */
+public class SingleFlight<K, V> {
+    private final ConcurrentMap<K, FutureTask<V>> calls = new ConcurrentHashMap<>();
+
+    private final AtomicLong executions = new AtomicLong();
+
+    private final AtomicLong coalesced = new AtomicLong();
+
+    /**
+     * Compute the value of the given key, or wait for the computation of another thread if there is one in flight.
+     * Waiting isn't interruptible, the interrupted status of the thread is restored once the value is there.
+     *
+     * @param key not null
+     * @param callable the computation of the value, run by the first thread asking for the key.
+     * @return the computed value.
+     * @throws ExecutionException if the computation threw a checked exception, which is the cause. Unchecked
+     * exceptions and errors are rethrown as is.
+     */
+    public V execute(K key, Callable<V> callable) throws ExecutionException {
+        FutureTask<V> call = new FutureTask<>(callable);
+        FutureTask<V> inFlight = calls.putIfAbsent(key, call);
+
+        if (inFlight == null) {
+            executions.incrementAndGet();
+            try {
+                call.run();
+            } finally {
+                calls.remove(key, call);
+            }
+            inFlight = call;
+        } else {
+            coalesced.incrementAndGet();
+        }
+
+        return getUninterruptibly(inFlight);
+    }
+
+    /**
+     * @return the number of computations run.
+     */
+    public long getExecutions() {
+        return executions.get();
+    }
+
+    /**
+     * @return the number of calls which waited for the computation of another thread.
+     */
+    public long getCoalesced() {
+        return coalesced.get();
+    }
+
+    @Override
+    public String toString() {
+        return getExecutions() + " executions, " + getCoalesced() + " coalesced";
+    }
+
+    private static <V> V getUninterruptibly(FutureTask<V> call) throws ExecutionException {
+        boolean interrupted = false;
+        try {
+            while (true) {
+                try {
+                    return call.get();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                } catch (ExecutionException e) {
+                    if (e.getCause() instanceof RuntimeException) {
+                        throw (RuntimeException) e.getCause();
+                    }
+                    if (e.getCause() instanceof Error) {
+                        throw (Error) e.getCause();
+                    }
+                    throw e;
+                }
+            }
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
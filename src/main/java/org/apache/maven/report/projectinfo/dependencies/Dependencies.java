@@ -21,13 +21,22 @@ package org.apache.maven.report.projectinfo.dependencies;
 import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.jar.JarEntry;
 
 import org.apache.maven.artifact.Artifact;
 import org.apache.maven.project.MavenProject;
+import org.apache.maven.report.projectinfo.ParallelTasks;
 import org.apache.maven.shared.dependency.graph.DependencyNode;
 import org.apache.maven.shared.jar.JarAnalyzer;
 import org.apache.maven.shared.jar.JarData;
@@ -60,6 +69,11 @@ public class Dependencies {
      */
     private List<Artifact> allDependencies;
 
+    /**
+     * @since 3.6.2
+     */
+    private Set<Artifact> allDependenciesIndex;
+
     /**
      * @since 2.1
      */
@@ -73,7 +87,32 @@ public class Dependencies {
     /**
      * @since 2.1
      */
-    private Map<String, JarData> dependencyDetails;
+    private final Map<String, JarData> dependencyDetails = new ConcurrentHashMap<>();
+
+    /**
+     * @since 3.6.2
+     */
+    private final Map<String, JarDetails> jarDetails = new ConcurrentHashMap<>();
+
+    /**
+     * @since 3.6.2
+     */
+    private final Map<String, IOException> jarDetailsFailures = new ConcurrentHashMap<>();
+
+    /**
+     * @since 3.6.2
+     */
+    private final JarDetailsCache jarDetailsCache;
+
+    /**
+     * @since 3.6.2
+     */
+    private final AtomicLong jarAnalyses = new AtomicLong();
+
+    /**
+     * @since 3.6.2
+     */
+    private final AtomicLong jarAnalysisNanos = new AtomicLong();
 
     /**
      * Default constructor
@@ -83,9 +122,25 @@ public class Dependencies {
      * @param classesAnalyzer the JarClassesAnalysis.
      */
     public Dependencies(MavenProject project, DependencyNode dependencyTreeNode, JarClassesAnalysis classesAnalyzer) {
+        this(project, dependencyTreeNode, classesAnalyzer, null);
+    }
+
+    /**
+     * @param project the MavenProject.
+     * @param dependencyTreeNode the DependencyNode.
+     * @param classesAnalyzer the JarClassesAnalysis.
+     * @param jarDetailsCache the persistent cache of the dependency file details, could be null.
+     * @since 3.6.2
+     */
+    public Dependencies(
+            MavenProject project,
+            DependencyNode dependencyTreeNode,
+            JarClassesAnalysis classesAnalyzer,
+            JarDetailsCache jarDetailsCache) {
         this.project = project;
         this.dependencyNode = dependencyTreeNode;
         this.classesAnalyzer = classesAnalyzer;
+        this.jarDetailsCache = jarDetailsCache;
     }
 
     /**
@@ -128,8 +183,14 @@ public class Dependencies {
             return projectTransitiveDependencies;
         }
 
-        projectTransitiveDependencies = new ArrayList<>(getAllDependencies());
-        projectTransitiveDependencies.removeAll(getProjectDependencies());
+        Set<Artifact> directDependencies = new HashSet<>(getProjectDependencies());
+
+        projectTransitiveDependencies = new ArrayList<>();
+        for (Artifact artifact : getAllDependencies()) {
+            if (!directDependencies.contains(artifact)) {
+                projectTransitiveDependencies.add(artifact);
+            }
+        }
 
         return projectTransitiveDependencies;
     }
@@ -142,13 +203,29 @@ public class Dependencies {
             return allDependencies;
         }
 
-        allDependencies = new ArrayList<>();
+        // insertion ordered, to keep the order of the dependency tree
+        allDependenciesIndex = new LinkedHashSet<>();
 
-        addAllChildrenDependencies(dependencyNode);
+        addAllChildrenDependencies(dependencyNode, allDependenciesIndex);
+
+        allDependencies = new ArrayList<>(allDependenciesIndex);
 
         return allDependencies;
     }
 
+    /**
+     * Unlike a lookup in {@link #getAllDependencies()}, this doesn't depend on the number of dependencies.
+     *
+     * @param artifact the artifact.
+     * @return <code>true</code> if the artifact is returned by the dependency tree, <code>false</code> otherwise.
+     * @since 3.6.2
+     */
+    public boolean containsDependency(Artifact artifact) {
+        getAllDependencies();
+
+        return allDependenciesIndex.contains(artifact);
+    }
+
     /**
      * @param isTransitively <code>true</code> to return transitive dependencies, <code>false</code> otherwise.
      * @return a map with supported scopes as key and a list of <code>Artifact</code> as values.
@@ -164,18 +241,7 @@ public class Dependencies {
                 return transitiveDependenciesByScope;
             }
 
-            transitiveDependenciesByScope = new HashMap<>();
-            for (Artifact artifact : getTransitiveDependencies()) {
-                List<Artifact> multiValue = transitiveDependenciesByScope.get(artifact.getScope());
-                if (multiValue == null) {
-                    multiValue = new ArrayList<>();
-                }
-
-                if (!multiValue.contains(artifact)) {
-                    multiValue.add(artifact);
-                }
-                transitiveDependenciesByScope.put(artifact.getScope(), multiValue);
-            }
+            transitiveDependenciesByScope = groupByScope(getTransitiveDependencies());
 
             return transitiveDependenciesByScope;
         }
@@ -184,18 +250,7 @@ public class Dependencies {
             return dependenciesByScope;
         }
 
-        dependenciesByScope = new HashMap<>();
-        for (Artifact artifact : getProjectDependencies()) {
-            List<Artifact> multiValue = dependenciesByScope.get(artifact.getScope());
-            if (multiValue == null) {
-                multiValue = new ArrayList<>();
-            }
-
-            if (!multiValue.contains(artifact)) {
-                multiValue.add(artifact);
-            }
-            dependenciesByScope.put(artifact.getScope(), multiValue);
-        }
+        dependenciesByScope = groupByScope(getProjectDependencies());
 
         return dependenciesByScope;
     }
@@ -206,48 +261,158 @@ public class Dependencies {
      * @throws IOException if any
      */
     public JarData getJarDependencyDetails(Artifact artifact) throws IOException {
-        if (dependencyDetails == null) {
-            dependencyDetails = new HashMap<>();
-        }
-
         JarData jarData = dependencyDetails.get(artifact.getId());
         if (jarData != null) {
             return jarData;
         }
 
-        File file = getFile(artifact);
+        jarData = analyze(artifact);
 
-        if (file.isDirectory()) {
-            jarData = new JarData(artifact.getFile(), null, new ArrayList<JarEntry>());
+        JarData previous = dependencyDetails.putIfAbsent(artifact.getId(), jarData);
 
-            jarData.setJarClasses(new JarClasses());
+        return previous != null ? previous : jarData;
+    }
+
+    /**
+     * Unlike {@link #getJarDependencyDetails(Artifact)}, this only keeps the summary of the file in memory, and
+     * reads and writes the persistent cache. A failure recorded by
+     * {@link #prefetchJarDependencyDetails(Collection, int)} is thrown once, without analyzing the file again.
+     *
+     * @param artifact the artifact.
+     * @return the details of the artifact file, from memory, from the persistent cache or by analyzing the file.
+     * @throws IOException if any
+     * @since 3.6.2
+     */
+    public JarDetails getJarDetails(Artifact artifact) throws IOException {
+        IOException failure = jarDetailsFailures.remove(artifact.getId());
+        if (failure != null) {
+            throw failure;
+        }
+
+        JarDetails details = jarDetails.get(artifact.getId());
+        if (details != null) {
+            return details;
+        }
+
+        JarData jarData = dependencyDetails.get(artifact.getId());
+        if (jarData != null) {
+            details = new JarDetails(jarData);
         } else {
-            JarAnalyzer jarAnalyzer = new JarAnalyzer(file);
+            File file = getFile(artifact);
+            boolean cacheable = jarDetailsCache != null && file.isFile();
 
-            try {
-                classesAnalyzer.analyze(jarAnalyzer);
-            } finally {
-                jarAnalyzer.closeQuietly();
+            if (cacheable) {
+                details = jarDetailsCache.get(file);
             }
 
-            jarData = jarAnalyzer.getJarData();
+            if (details == null) {
+                details = new JarDetails(analyze(artifact));
+
+                if (cacheable) {
+                    jarDetailsCache.put(file, details);
+                }
+            }
         }
 
-        dependencyDetails.put(artifact.getId(), jarData);
+        JarDetails previous = jarDetails.putIfAbsent(artifact.getId(), details);
+
+        return previous != null ? previous : details;
+    }
+
+    /**
+     * @return the number of dependency files analyzed, the details served from the caches excluded.
+     * @since 3.6.2
+     */
+    public long getJarAnalyses() {
+        return jarAnalyses.get();
+    }
+
+    /**
+     * @return the time spent analyzing dependency files, in nanoseconds, summed over the threads analyzing them.
+     * @since 3.6.2
+     */
+    public long getJarAnalysisNanos() {
+        return jarAnalysisNanos.get();
+    }
+
+    /**
+     * Analyzes the files of the given artifacts concurrently, so that subsequent calls to
+     * {@link #getJarDetails(Artifact)} are served from memory. The failure of an artifact is recorded, and thrown
+     * by the first call to {@link #getJarDetails(Artifact)} for this artifact.
+     *
+     * @param artifacts the artifacts to analyze, each one having a file.
+     * @param threads the maximum number of threads to use, or <code>0</code> to use one thread per available
+     *            processor.
+     * @since 3.6.2
+     */
+    public void prefetchJarDependencyDetails(Collection<Artifact> artifacts, int threads) {
+        List<Callable<JarDetails>> tasks = new ArrayList<>();
+        for (final Artifact artifact : artifacts) {
+            if (artifact.getFile() == null || jarDetails.containsKey(artifact.getId())) {
+                continue;
+            }
+
+            tasks.add(new Callable<JarDetails>() {
+                public JarDetails call() {
+                    try {
+                        return getJarDetails(artifact);
+                    } catch (IOException e) {
+                        jarDetailsFailures.put(artifact.getId(), e);
+                        return null;
+                    }
+                }
+            });
+        }
 
-        return jarData;
+        try {
+            ParallelTasks.invokeAll(tasks, threads, "mpir-jar-analyzer");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
     }
 
     // ----------------------------------------------------------------------
     // Private methods
     // ----------------------------------------------------------------------
 
+    /**
+     * @param artifact the artifact, having a file.
+     * @return the result of the analysis of the artifact file, never cached.
+     * @throws IOException if any
+     */
+    private JarData analyze(Artifact artifact) throws IOException {
+        File file = getFile(artifact);
+
+        if (file.isDirectory()) {
+            JarData jarData = new JarData(artifact.getFile(), null, new ArrayList<JarEntry>());
+
+            jarData.setJarClasses(new JarClasses());
+
+            return jarData;
+        }
+
+        jarAnalyses.incrementAndGet();
+        long start = System.nanoTime();
+
+        JarAnalyzer jarAnalyzer = new JarAnalyzer(file);
+
+        try {
+            classesAnalyzer.analyze(jarAnalyzer);
+        } finally {
+            jarAnalyzer.closeQuietly();
+            jarAnalysisNanos.addAndGet(System.nanoTime() - start);
+        }
+
+        return jarAnalyzer.getJarData();
+    }
+
     /**
      * Recursive method to get all dependencies from a given <code>dependencyNode</code>
      *
      * @param dependencyNode not null
+     * @param dependencies the set to add the dependencies to, not null
      */
-    private void addAllChildrenDependencies(DependencyNode dependencyNode) {
+    private void addAllChildrenDependencies(DependencyNode dependencyNode, Set<Artifact> dependencies) {
         for (DependencyNode subdependencyNode : dependencyNode.getChildren()) {
             Artifact artifact = subdependencyNode.getArtifact();
 
@@ -257,12 +422,34 @@ public class Dependencies {
                 continue;
             }
 
-            if (!allDependencies.contains(artifact)) {
-                allDependencies.add(artifact);
+            dependencies.add(artifact);
+
+            addAllChildrenDependencies(subdependencyNode, dependencies);
+        }
+    }
+
+    /**
+     * @param artifacts not null
+     * @return a map with the scopes of the artifacts as key and the list of distinct artifacts in this scope as value.
+     */
+    private static Map<String, List<Artifact>> groupByScope(List<Artifact> artifacts) {
+        Map<String, Set<Artifact>> artifactsByScope = new LinkedHashMap<>();
+        for (Artifact artifact : artifacts) {
+            Set<Artifact> scopeArtifacts = artifactsByScope.get(artifact.getScope());
+            if (scopeArtifacts == null) {
+                scopeArtifacts = new LinkedHashSet<>();
+                artifactsByScope.put(artifact.getScope(), scopeArtifacts);
             }
 
-            addAllChildrenDependencies(subdependencyNode);
+            scopeArtifacts.add(artifact);
         }
+
+        Map<String, List<Artifact>> result = new HashMap<>();
+        for (Map.Entry<String, Set<Artifact>> entry : artifactsByScope.entrySet()) {
+            result.put(entry.getKey(), new ArrayList<>(entry.getValue()));
+        }
+
+        return result;
     }
 
     /**
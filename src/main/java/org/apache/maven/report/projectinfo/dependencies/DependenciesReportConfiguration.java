@@ -26,11 +26,27 @@ package org.apache.maven.report.projectinfo.dependencies;
 public class DependenciesReportConfiguration {
     private boolean dependencyDetailsEnabled;
 
+    private int dependencyDetailsThreads;
+
+    private int dependencyMetadataThreads;
+
     /**
      * @param detailsEnabled whether details is enabled.
      */
     public DependenciesReportConfiguration(boolean detailsEnabled) {
+        this(detailsEnabled, 1, 1);
+    }
+
+    /**
+     * @param detailsEnabled whether details is enabled.
+     * @param detailsThreads the number of threads used to analyze dependency files.
+     * @param metadataThreads the number of threads used to build the projects of the dependencies.
+     * @since 3.6.2
+     */
+    public DependenciesReportConfiguration(boolean detailsEnabled, int detailsThreads, int metadataThreads) {
         this.dependencyDetailsEnabled = detailsEnabled;
+        this.dependencyDetailsThreads = detailsThreads;
+        this.dependencyMetadataThreads = metadataThreads;
     }
 
     /**
@@ -39,4 +55,20 @@ public class DependenciesReportConfiguration {
     public boolean getDependencyDetailsEnabled() {
         return dependencyDetailsEnabled;
     }
+
+    /**
+     * @return value of Mojo dependencyDetailsThreads parameter.
+     * @since 3.6.2
+     */
+    public int getDependencyDetailsThreads() {
+        return dependencyDetailsThreads;
+    }
+
+    /**
+     * @return value of Mojo dependencyMetadataThreads parameter.
+     * @since 3.6.2
+     */
+    public int getDependencyMetadataThreads() {
+        return dependencyMetadataThreads;
+    }
 }
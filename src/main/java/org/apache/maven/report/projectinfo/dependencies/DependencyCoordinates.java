@@ -0,0 +1,150 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.report.projectinfo.dependencies;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.maven.artifact.Artifact;
+
+/**
+ * Symbol table of the coordinates of the artifacts of dependency trees. Each <code>groupId:artifactId</code> and
+ * each <code>groupId:artifactId:version</code> gets a dense int id the first time it is looked up, so that the
+ * analysis of large trees can work on ids, arrays and bit sets rather than on strings.
+ *
+ * @since 3.6.2
+ */
+public class DependencyCoordinates {
+    /**
+     * The ids of the <code>groupId:artifactId</code>, by groupId then artifactId.
+     */
+    private final Map<String, Map<String, Integer>> groupArtifactIds = new HashMap<>();
+
+    private final List<String> groupArtifactKeys = new ArrayList<>();
+
+    /**
+     * The ids of the versions of each <code>groupId:artifactId</code>, by version.
+     */
+    private final List<Map<String, Integer>> versionIds = new ArrayList<>();
+
+    private int[] versionGroupArtifactIds = new int[64];
+
+    private Artifact[] versionArtifacts = new Artifact[64];
+
+    private final BitSet snapshots = new BitSet();
+
+    private int versionCount;
+
+    /**
+     * @param artifact not null
+     * @return the id of the <code>groupId:artifactId</code> of the artifact.
+     */
+    public int getGroupArtifactId(Artifact artifact) {
+        Map<String, Integer> artifactIds = groupArtifactIds.get(artifact.getGroupId());
+        if (artifactIds == null) {
+            artifactIds = new HashMap<>();
+            groupArtifactIds.put(artifact.getGroupId(), artifactIds);
+        }
+
+        Integer id = artifactIds.get(artifact.getArtifactId());
+        if (id == null) {
+            id = groupArtifactKeys.size();
+            artifactIds.put(artifact.getArtifactId(), id);
+            groupArtifactKeys.add(artifact.getGroupId() + ":" + artifact.getArtifactId());
+            versionIds.add(new HashMap<String, Integer>(4));
+        }
+        return id;
+    }
+
+    /**
+     * @param artifact not null
+     * @return the id of the <code>groupId:artifactId:version</code> of the artifact.
+     */
+    public int getVersionId(Artifact artifact) {
+        int groupArtifactId = getGroupArtifactId(artifact);
+        Map<String, Integer> ids = versionIds.get(groupArtifactId);
+
+        Integer id = ids.get(artifact.getVersion());
+        if (id == null) {
+            id = versionCount++;
+            ids.put(artifact.getVersion(), id);
+
+            if (id == versionArtifacts.length) {
+                versionGroupArtifactIds = Arrays.copyOf(versionGroupArtifactIds, id * 2);
+                versionArtifacts = Arrays.copyOf(versionArtifacts, id * 2);
+            }
+            versionGroupArtifactIds[id] = groupArtifactId;
+            versionArtifacts[id] = artifact;
+            if (artifact.getVersion().endsWith("-SNAPSHOT")) {
+                snapshots.set(id);
+            }
+        }
+        return id;
+    }
+
+    /**
+     * @param groupArtifactId the id of a <code>groupId:artifactId</code>
+     * @return the <code>groupId:artifactId</code>.
+     */
+    public String getGroupArtifactKey(int groupArtifactId) {
+        return groupArtifactKeys.get(groupArtifactId);
+    }
+
+    /**
+     * @param versionId the id of a <code>groupId:artifactId:version</code>
+     * @return the id of its <code>groupId:artifactId</code>.
+     */
+    public int getGroupArtifactIdOfVersion(int versionId) {
+        return versionGroupArtifactIds[versionId];
+    }
+
+    /**
+     * @param versionId the id of a <code>groupId:artifactId:version</code>
+     * @return the first artifact looked up with these coordinates.
+     */
+    public Artifact getArtifact(int versionId) {
+        return versionArtifacts[versionId];
+    }
+
+    /**
+     * @param versionId the id of a <code>groupId:artifactId:version</code>
+     * @return <code>true</code> if the version is a <code>-SNAPSHOT</code> one.
+     */
+    public boolean isSnapshot(int versionId) {
+        return snapshots.get(versionId);
+    }
+
+    /**
+     * @return the number of <code>groupId:artifactId</code> looked up.
+     */
+    public int getGroupArtifactCount() {
+        return groupArtifactKeys.size();
+    }
+
+    /**
+     * @return the number of <code>groupId:artifactId:version</code> looked up.
+     */
+    public int getVersionCount() {
+        return versionCount;
+    }
+}
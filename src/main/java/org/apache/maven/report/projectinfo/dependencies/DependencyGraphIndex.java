@@ -0,0 +1,182 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.report.projectinfo.dependencies;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.maven.artifact.Artifact;
+import org.apache.maven.shared.dependency.graph.DependencyNode;
+import org.apache.maven.shared.dependency.graph.traversal.DependencyNodeVisitor;
+
+/**
+ * Compact index of a dependency tree, to answer repeated queries about the paths to an artifact without walking
+ * the tree again. The nodes are numbered in breadth first order, so that the children of a node have consecutive
+ * ids, and the artifacts are indexed by <code>groupId:artifactId:type:baseVersion</code>.
+ *
+ * @since 3.6.2
+ */
+public class DependencyGraphIndex {
+    private static final int[] NO_IDS = new int[0];
+
+    private final DependencyNode[] nodes;
+
+    private final int[] parents;
+
+    private final int[] firstChildren;
+
+    private final int[] childCounts;
+
+    /**
+     * The id of the next node of the same artifact, by node id, <code>-1</code> for the last one.
+     */
+    private final int[] nextIds;
+
+    /**
+     * The id of the first node of each artifact, and the number of nodes of that artifact.
+     */
+    private final Map<String, int[]> firstIdsByKey;
+
+    /**
+     * @param root the root node of the tree to index, not null.
+     */
+    public DependencyGraphIndex(DependencyNode root) {
+        List<DependencyNode> order = new ArrayList<>();
+        order.add(root);
+        for (int id = 0; id < order.size(); id++) {
+            List<DependencyNode> children = order.get(id).getChildren();
+            if (children != null) {
+                order.addAll(children);
+            }
+        }
+
+        int size = order.size();
+        this.nodes = order.toArray(new DependencyNode[size]);
+        this.parents = new int[size];
+        this.firstChildren = new int[size];
+        this.childCounts = new int[size];
+
+        parents[0] = -1;
+        int firstChild = 1;
+        for (int id = 0; id < size; id++) {
+            List<DependencyNode> children = nodes[id].getChildren();
+            int childCount = children != null ? children.size() : 0;
+
+            firstChildren[id] = firstChild;
+            childCounts[id] = childCount;
+            for (int i = 0; i < childCount; i++) {
+                parents[firstChild + i] = id;
+            }
+            firstChild += childCount;
+        }
+
+        // posting lists of the artifacts, chained through the node ids in ascending order
+        this.nextIds = new int[size];
+        this.firstIdsByKey = new HashMap<>();
+        for (int id = size - 1; id >= 0; id--) {
+            String key = key(nodes[id].getArtifact());
+            int[] first = firstIdsByKey.get(key);
+            if (first == null) {
+                first = new int[] {-1, 0};
+                firstIdsByKey.put(key, first);
+            }
+            nextIds[id] = first[0];
+            first[0] = id;
+            first[1]++;
+        }
+    }
+
+    /**
+     * @param artifact not null
+     * @return the key of the artifact in the index: <code>groupId:artifactId:type:baseVersion</code>.
+     */
+    public static String key(Artifact artifact) {
+        return artifact.getGroupId() + ":" + artifact.getArtifactId() + ":" + artifact.getType() + ":"
+                + artifact.getBaseVersion();
+    }
+
+    /**
+     * @return the number of nodes of the tree.
+     */
+    public int size() {
+        return nodes.length;
+    }
+
+    /**
+     * @param key <code>groupId:artifactId:type:baseVersion</code>
+     * @return the ids of the nodes of the given artifact, in breadth first order, never null.
+     */
+    public int[] getNodeIds(String key) {
+        int[] first = firstIdsByKey.get(key);
+        if (first == null) {
+            return NO_IDS;
+        }
+
+        int[] ids = new int[first[1]];
+        for (int i = 0, id = first[0]; id >= 0; id = nextIds[id]) {
+            ids[i++] = id;
+        }
+        return ids;
+    }
+
+    /**
+     * @param ids ids of nodes of the tree
+     * @return the ids of the given nodes and of all their ancestors, i.e. all the paths from the root to the nodes.
+     */
+    public BitSet getAncestorsOrSelf(int[] ids) {
+        BitSet ancestorsOrSelf = new BitSet(nodes.length);
+        for (int id : ids) {
+            // stop at the first node already on a path
+            for (int i = id; i >= 0 && !ancestorsOrSelf.get(i); i = parents[i]) {
+                ancestorsOrSelf.set(i);
+            }
+        }
+        return ancestorsOrSelf;
+    }
+
+    /**
+     * Visit the given nodes of the tree in depth first order, as {@link DependencyNode#accept(DependencyNodeVisitor)}
+     * would with a filter only accepting them.
+     *
+     * @param visitor not null
+     * @param ids the ids of the nodes to visit, including all their ancestors.
+     */
+    public void accept(DependencyNodeVisitor visitor, BitSet ids) {
+        if (ids.get(0)) {
+            accept(visitor, ids, 0);
+        }
+    }
+
+    private boolean accept(DependencyNodeVisitor visitor, BitSet ids, int id) {
+        if (visitor.visit(nodes[id])) {
+            int end = firstChildren[id] + childCounts[id];
+            for (int child = ids.nextSetBit(firstChildren[id]); child >= 0 && child < end; ) {
+                if (!accept(visitor, ids, child)) {
+                    break;
+                }
+                child = ids.nextSetBit(child + 1);
+            }
+        }
+
+        return visitor.endVisit(nodes[id]);
+    }
+}
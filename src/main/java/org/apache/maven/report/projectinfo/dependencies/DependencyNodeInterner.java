@@ -0,0 +1,209 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.report.projectinfo.dependencies;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.WeakHashMap;
+
+import org.apache.maven.artifact.Artifact;
+import org.apache.maven.model.Exclusion;
+import org.apache.maven.shared.dependency.graph.DependencyNode;
+import org.apache.maven.shared.dependency.graph.traversal.DependencyNodeVisitor;
+
+/**
+ * Shares the identical subtrees of dependency trees, so that keeping the trees of many modules costs memory for
+ * their distinct subtrees only. Two nodes are identical when they print the same, have the same artifact
+ * coordinates and identical children.
+ * <p>
+ * A shared node may have several parents, so {@link DependencyNode#getParent()} of the interned nodes is always
+ * <code>null</code>. Their children can't be modified.
+ * <p>
+ * The interned nodes are only weakly referenced: a node is forgotten once no interned tree in use contains it, so
+ * the interner doesn't retain more than the trees kept by its callers.
+ *
+ * @since 3.6.2
+ */
+public class DependencyNodeInterner {
+    private final Map<SharedDependencyNode, WeakReference<SharedDependencyNode>> nodes = new WeakHashMap<>();
+
+    /**
+     * @param node the root node of the tree to intern, not null.
+     * @return the interned root node, sharing its subtrees with the trees already interned.
+     */
+    public synchronized DependencyNode intern(DependencyNode node) {
+        List<DependencyNode> children = node.getChildren();
+        List<DependencyNode> internedChildren;
+        if (children == null || children.isEmpty()) {
+            internedChildren = Collections.emptyList();
+        } else {
+            internedChildren = new ArrayList<>(children.size());
+            for (DependencyNode child : children) {
+                internedChildren.add(intern(child));
+            }
+            internedChildren = Collections.unmodifiableList(internedChildren);
+        }
+
+        SharedDependencyNode sharedNode = new SharedDependencyNode(node, internedChildren);
+        WeakReference<SharedDependencyNode> reference = nodes.get(sharedNode);
+        SharedDependencyNode internedNode = reference != null ? reference.get() : null;
+        if (internedNode == null) {
+            nodes.put(sharedNode, new WeakReference<>(sharedNode));
+            internedNode = sharedNode;
+        }
+        return internedNode;
+    }
+
+    /**
+     * @return the number of distinct nodes interned, and still in use.
+     */
+    public synchronized int size() {
+        return nodes.size();
+    }
+
+    /**
+     * An immutable dependency node, without parent.
+     */
+    private static class SharedDependencyNode implements DependencyNode {
+        private final Artifact artifact;
+
+        private final String premanagedVersion;
+
+        private final String premanagedScope;
+
+        private final String versionConstraint;
+
+        private final Boolean optional;
+
+        private final List<Exclusion> exclusions;
+
+        private final String nodeString;
+
+        private final List<DependencyNode> children;
+
+        private final int hash;
+
+        SharedDependencyNode(DependencyNode node, List<DependencyNode> children) {
+            this.artifact = node.getArtifact();
+            this.premanagedVersion = node.getPremanagedVersion();
+            this.premanagedScope = node.getPremanagedScope();
+            this.versionConstraint = node.getVersionConstraint();
+            this.optional = node.getOptional();
+            this.exclusions = node.getExclusions();
+            this.nodeString = node.toNodeString();
+            this.children = children;
+
+            int h = Objects.hash(nodeString, artifact.getId(), artifact.getBaseVersion(), artifact.getScope());
+            for (DependencyNode child : children) {
+                h = 31 * h + System.identityHashCode(child);
+            }
+            this.hash = h;
+        }
+
+        public List<DependencyNode> getChildren() {
+            return children;
+        }
+
+        public boolean accept(DependencyNodeVisitor visitor) {
+            if (visitor.visit(this)) {
+                for (DependencyNode child : children) {
+                    if (!child.accept(visitor)) {
+                        break;
+                    }
+                }
+            }
+
+            return visitor.endVisit(this);
+        }
+
+        public DependencyNode getParent() {
+            return null;
+        }
+
+        public Artifact getArtifact() {
+            return artifact;
+        }
+
+        public String getPremanagedVersion() {
+            return premanagedVersion;
+        }
+
+        public String getPremanagedScope() {
+            return premanagedScope;
+        }
+
+        public String getVersionConstraint() {
+            return versionConstraint;
+        }
+
+        public String toNodeString() {
+            return nodeString;
+        }
+
+        public Boolean getOptional() {
+            return optional;
+        }
+
+        public List<Exclusion> getExclusions() {
+            return exclusions;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof SharedDependencyNode)) {
+                return false;
+            }
+
+            SharedDependencyNode other = (SharedDependencyNode) obj;
+            if (hash != other.hash
+                    || !nodeString.equals(other.nodeString)
+                    || !artifact.getId().equals(other.artifact.getId())
+                    || !Objects.equals(artifact.getBaseVersion(), other.artifact.getBaseVersion())
+                    || !Objects.equals(artifact.getScope(), other.artifact.getScope())
+                    || children.size() != other.children.size()) {
+                return false;
+            }
+
+            // the children are interned already
+            for (int i = 0; i < children.size(); i++) {
+                if (children.get(i) != other.children.get(i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public String toString() {
+            return nodeString;
+        }
+    }
+}
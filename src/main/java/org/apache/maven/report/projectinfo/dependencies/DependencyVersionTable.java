@@ -0,0 +1,208 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.report.projectinfo.dependencies;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+
+import org.apache.maven.artifact.Artifact;
+import org.apache.maven.shared.dependency.graph.DependencyNode;
+import org.apache.maven.shared.dependency.graph.traversal.DependencyNodeVisitor;
+
+/**
+ * Table of the versions of each <code>groupId:artifactId</code> of a dependency tree, built in a single traversal.
+ * It answers both:
+ * <ul>
+ * <li>the conflicting versions, as {@link DependencyVersionMap} with unique versions does: the subtree of a node
+ * whose <code>groupId:artifactId</code> has conflicting versions is not looked at for conflicts,</li>
+ * <li>the distinct versions of all the descendants of the root node.</li>
+ * </ul>
+ * The coordinates are looked up in a {@link DependencyCoordinates} table, which can be shared by the tables of
+ * several trees.
+ *
+ * @since 3.6.2
+ */
+public class DependencyVersionTable implements DependencyNodeVisitor {
+    private final DependencyCoordinates coordinates;
+
+    /**
+     * The entries, by id of <code>groupId:artifactId</code>.
+     */
+    private Entry[] entries = new Entry[64];
+
+    /**
+     * The entries, in the order of the traversal.
+     */
+    private final List<Entry> entryList = new ArrayList<>();
+
+    /**
+     * The ids of the <code>groupId:artifactId:version</code> of the descendants of the root node.
+     */
+    private final BitSet versionIds = new BitSet();
+
+    private int depth;
+
+    /**
+     * Depth of the node whose subtree is not looked at for conflicts, <code>0</code> if none.
+     */
+    private int conflictsSkippedDepth;
+
+    // ----------------------------------------------------------------------
+    // Public methods
+    // ----------------------------------------------------------------------
+
+    /**
+     * Create an instance, with its own coordinates table.
+     */
+    public DependencyVersionTable() {
+        this(new DependencyCoordinates());
+    }
+
+    /**
+     * @param coordinates the coordinates table to use, not null.
+     */
+    public DependencyVersionTable(DependencyCoordinates coordinates) {
+        this.coordinates = coordinates;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public boolean visit(DependencyNode node) {
+        depth++;
+
+        int versionId = coordinates.getVersionId(node.getArtifact());
+        int groupArtifactId = coordinates.getGroupArtifactIdOfVersion(versionId);
+
+        if (groupArtifactId >= entries.length) {
+            entries = Arrays.copyOf(entries, Math.max(groupArtifactId + 1, entries.length * 2));
+        }
+        Entry entry = entries[groupArtifactId];
+        if (entry == null) {
+            entry = new Entry();
+            entries[groupArtifactId] = entry;
+            entryList.add(entry);
+        }
+
+        // the root node is not a dependency
+        if (depth > 1) {
+            versionIds.set(versionId);
+        }
+
+        if (conflictsSkippedDepth == 0) {
+            entry.addConflictNode(node, versionId);
+            if (entry.conflicting) {
+                conflictsSkippedDepth = depth;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public boolean endVisit(DependencyNode node) {
+        if (conflictsSkippedDepth == depth) {
+            conflictsSkippedDepth = 0;
+        }
+        depth--;
+
+        return true;
+    }
+
+    /**
+     * Get conflicting nodes groups, as {@link DependencyVersionMap#getConflictedVersionNumbers()} with unique
+     * versions.
+     *
+     * @return conflicting nodes groups
+     */
+    public List<List<DependencyNode>> getConflictedVersionNumbers() {
+        List<List<DependencyNode>> output = new ArrayList<>();
+        for (Entry entry : entryList) {
+            if (entry.conflicting) {
+                output.add(entry.conflictNodes);
+            }
+        }
+        return output;
+    }
+
+    /**
+     * @return the ids, in the coordinates table, of the distinct <code>groupId:artifactId:version</code> of the
+     * descendants of the root node.
+     */
+    public BitSet getDependencyVersionIds() {
+        return (BitSet) versionIds.clone();
+    }
+
+    /**
+     * @return one artifact per distinct <code>groupId:artifactId:version</code> of the descendants of the root node,
+     * the first one looked up in the coordinates table.
+     */
+    public List<Artifact> getDependencyArtifacts() {
+        List<Artifact> artifacts = new ArrayList<>(versionIds.cardinality());
+        for (int id = versionIds.nextSetBit(0); id >= 0; id = versionIds.nextSetBit(id + 1)) {
+            artifacts.add(coordinates.getArtifact(id));
+        }
+        return artifacts;
+    }
+
+    /**
+     * @return the number of distinct <code>groupId:artifactId:version</code> of the descendants of the root node.
+     */
+    public int getVersionCount() {
+        return versionIds.cardinality();
+    }
+
+    /**
+     * @return the coordinates table used by this table.
+     */
+    public DependencyCoordinates getCoordinates() {
+        return coordinates;
+    }
+
+    // ----------------------------------------------------------------------
+    // Private methods
+    // ----------------------------------------------------------------------
+
+    /**
+     * The nodes of a <code>groupId:artifactId</code> looked at for conflicts.
+     */
+    private static class Entry {
+        /**
+         * The nodes looked at for conflicts, in the order of the traversal.
+         */
+        private final List<DependencyNode> conflictNodes = new ArrayList<>(1);
+
+        private int firstVersionId = -1;
+
+        private boolean conflicting;
+
+        void addConflictNode(DependencyNode node, int versionId) {
+            if (firstVersionId < 0) {
+                firstVersionId = versionId;
+            } else if (firstVersionId != versionId) {
+                conflicting = true;
+            }
+            conflictNodes.add(node);
+        }
+    }
+}
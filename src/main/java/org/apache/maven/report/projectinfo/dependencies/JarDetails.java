@@ -0,0 +1,237 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.report.projectinfo.dependencies;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.maven.shared.jar.JarData;
+import org.apache.maven.shared.jar.classes.JarClasses;
+import org.apache.maven.shared.jar.classes.JarVersionedRuntime;
+
+/**
+ * The figures of an analyzed dependency file, as displayed in the dependency file details. Unlike {@link JarData},
+ * it doesn't keep the entries or class names of the file, so it can be cached cheaply.
+ *
+ * @since 3.6.2
+ */
+public class JarDetails {
+    private final int numEntries;
+
+    private final int numRootEntries;
+
+    private final int numClasses;
+
+    private final int numPackages;
+
+    private final String jdkRevision;
+
+    private final boolean debugPresent;
+
+    private final boolean sealed;
+
+    private final boolean multiRelease;
+
+    private final List<VersionedRuntime> versionedRuntimes;
+
+    /**
+     * @param jarData the analyzed jar, not null.
+     */
+    public JarDetails(JarData jarData) {
+        this.numEntries = jarData.getNumEntries();
+        this.numRootEntries = jarData.getNumRootEntries();
+        this.numClasses = jarData.getNumClasses();
+        this.numPackages = jarData.getNumPackages();
+        this.jdkRevision = jarData.getJdkRevision();
+        this.debugPresent = jarData.isDebugPresent();
+        this.sealed = jarData.isSealed();
+        this.multiRelease = jarData.isMultiRelease();
+
+        List<VersionedRuntime> runtimes = new ArrayList<>();
+        if (multiRelease) {
+            for (Map.Entry<Integer, JarVersionedRuntime> entry :
+                    jarData.getVersionedRuntimes().getVersionedRuntimeMap().entrySet()) {
+                JarClasses jarClasses = entry.getValue().getJarClasses();
+                runtimes.add(new VersionedRuntime(
+                        entry.getKey(),
+                        entry.getValue().getNumEntries(),
+                        jarClasses.getClassNames().size(),
+                        jarClasses.getPackages().size(),
+                        jarClasses.getJdkRevision(),
+                        jarClasses.isDebugPresent()));
+            }
+        }
+        this.versionedRuntimes = Collections.unmodifiableList(runtimes);
+    }
+
+    JarDetails(
+            int numEntries,
+            int numRootEntries,
+            int numClasses,
+            int numPackages,
+            String jdkRevision,
+            boolean debugPresent,
+            boolean sealed,
+            boolean multiRelease,
+            List<VersionedRuntime> versionedRuntimes) {
+        this.numEntries = numEntries;
+        this.numRootEntries = numRootEntries;
+        this.numClasses = numClasses;
+        this.numPackages = numPackages;
+        this.jdkRevision = jdkRevision;
+        this.debugPresent = debugPresent;
+        this.sealed = sealed;
+        this.multiRelease = multiRelease;
+        this.versionedRuntimes = Collections.unmodifiableList(new ArrayList<>(versionedRuntimes));
+    }
+
+    /**
+     * @return the number of entries in the file.
+     */
+    public int getNumEntries() {
+        return numEntries;
+    }
+
+    /**
+     * @return the number of entries outside of the versioned directories of a multi-release jar.
+     */
+    public int getNumRootEntries() {
+        return numRootEntries;
+    }
+
+    /**
+     * @return the number of root classes.
+     */
+    public int getNumClasses() {
+        return numClasses;
+    }
+
+    /**
+     * @return the number of root packages.
+     */
+    public int getNumPackages() {
+        return numPackages;
+    }
+
+    /**
+     * @return the highest JDK revision of the root classes, could be null.
+     */
+    public String getJdkRevision() {
+        return jdkRevision;
+    }
+
+    /**
+     * @return <code>true</code> if the root classes contain debug information.
+     */
+    public boolean isDebugPresent() {
+        return debugPresent;
+    }
+
+    /**
+     * @return <code>true</code> if the jar is sealed.
+     */
+    public boolean isSealed() {
+        return sealed;
+    }
+
+    /**
+     * @return <code>true</code> if the jar is a multi-release jar.
+     */
+    public boolean isMultiRelease() {
+        return multiRelease;
+    }
+
+    /**
+     * @return the versioned runtimes of a multi-release jar, sorted by version.
+     */
+    public List<VersionedRuntime> getVersionedRuntimes() {
+        return versionedRuntimes;
+    }
+
+    /**
+     * The figures of one versioned directory of a multi-release jar.
+     */
+    public static class VersionedRuntime {
+        private final int version;
+
+        private final int numEntries;
+
+        private final int numClasses;
+
+        private final int numPackages;
+
+        private final String jdkRevision;
+
+        private final boolean debugPresent;
+
+        VersionedRuntime(
+                int version, int numEntries, int numClasses, int numPackages, String jdkRevision, boolean debugPresent) {
+            this.version = version;
+            this.numEntries = numEntries;
+            this.numClasses = numClasses;
+            this.numPackages = numPackages;
+            this.jdkRevision = jdkRevision;
+            this.debugPresent = debugPresent;
+        }
+
+        /**
+         * @return the Java version of the versioned directory.
+         */
+        public int getVersion() {
+            return version;
+        }
+
+        /**
+         * @return the number of entries in the versioned directory.
+         */
+        public int getNumEntries() {
+            return numEntries;
+        }
+
+        /**
+         * @return the number of classes in the versioned directory.
+         */
+        public int getNumClasses() {
+            return numClasses;
+        }
+
+        /**
+         * @return the number of packages in the versioned directory.
+         */
+        public int getNumPackages() {
+            return numPackages;
+        }
+
+        /**
+         * @return the highest JDK revision of the versioned classes, could be null.
+         */
+        public String getJdkRevision() {
+            return jdkRevision;
+        }
+
+        /**
+         * @return <code>true</code> if the versioned classes contain debug information.
+         */
+        public boolean isDebugPresent() {
+            return debugPresent;
+        }
+    }
+}
@@ -0,0 +1,317 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.report.projectinfo.dependencies;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.maven.plugin.logging.Log;
+
+/**
+ * Persistent cache of {@link JarDetails}, so that unchanged dependency files don't have to be analyzed again on
+ * every build. Entries are keyed by the absolute path of the file and are only valid as long as its size and last
+ * modification time, and optionally its SHA-1 checksum, don't change. When there are more than
+ * <code>maxEntries</code> entries, the least recently used ones are evicted on {@link #save()}. A hit only updates
+ * the last use of the entry in memory: it is written with the next new entry, so that builds served entirely from
+ * the cache don't rewrite it.
+ * <p>
+ * The cache is stored as a properties file with one property per dependency file, whose value is
+ * <code>size|lastModified|sha1|lastUsed|entries|rootEntries|classes|packages|jdk|debug|sealed|multiRelease|</code>
+ * followed by the versioned runtimes as a comma separated list of
+ * <code>version:entries:classes:packages:jdk:debug</code>.
+ *
+ * @since 3.6.2
+ */
+public class JarDetailsCache {
+    private static final String HEADER = "maven-project-info-reports-plugin dependency file details, format 1";
+
+    private static final String NONE = "-";
+
+    private static final String SEPARATOR = "|";
+
+    private final File cacheFile;
+
+    private final int maxEntries;
+
+    private final boolean checksum;
+
+    private final Log log;
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    private volatile boolean modified;
+
+    /**
+     * @param cacheFile the file to store the cache into, not null.
+     * @param maxEntries the maximum number of entries to keep.
+     * @param checksum <code>true</code> to also validate entries against the SHA-1 checksum of the file.
+     * @param log {@link Log}
+     */
+    public JarDetailsCache(File cacheFile, int maxEntries, boolean checksum, Log log) {
+        this.cacheFile = cacheFile;
+        this.maxEntries = maxEntries;
+        this.checksum = checksum;
+        this.log = log;
+
+        entries.putAll(read());
+    }
+
+    /**
+     * @param file the dependency file, not null.
+     * @return the cached details of the file, or <code>null</code> if the file is unknown or has changed.
+     */
+    public JarDetails get(File file) {
+        Entry entry = entries.get(file.getAbsolutePath());
+        if (entry == null || entry.size != file.length() || entry.lastModified != file.lastModified()) {
+            return null;
+        }
+
+        if (checksum) {
+            String sha1 = sha1(file);
+            if (NONE.equals(sha1) || !sha1.equals(entry.sha1)) {
+                return null;
+            }
+        }
+
+        entry.lastUsed = System.currentTimeMillis();
+
+        return entry.details;
+    }
+
+    /**
+     * @param file the dependency file, not null.
+     * @param details the details of the file, not null.
+     */
+    public void put(File file, JarDetails details) {
+        String sha1 = checksum ? sha1(file) : NONE;
+        entries.put(
+                file.getAbsolutePath(),
+                new Entry(file.length(), file.lastModified(), sha1, System.currentTimeMillis(), details));
+        modified = true;
+    }
+
+    /**
+     * Writes the cache to disk, merged with the entries written meanwhile by other builds. The file is written to a
+     * temporary file first, then atomically moved, so that concurrent builds always read a complete cache.
+     */
+    public void save() {
+        if (!modified) {
+            return;
+        }
+
+        Map<String, Entry> merged = read();
+        for (Map.Entry<String, Entry> entry : entries.entrySet()) {
+            Entry other = merged.get(entry.getKey());
+            if (other == null || other.lastUsed <= entry.getValue().lastUsed) {
+                merged.put(entry.getKey(), entry.getValue());
+            }
+        }
+
+        List<Map.Entry<String, Entry>> sorted = new ArrayList<>(merged.entrySet());
+        Collections.sort(sorted, new Comparator<Map.Entry<String, Entry>>() {
+            public int compare(Map.Entry<String, Entry> e1, Map.Entry<String, Entry> e2) {
+                // most recently used first
+                return Long.compare(e2.getValue().lastUsed, e1.getValue().lastUsed);
+            }
+        });
+
+        Properties properties = new Properties();
+        for (Map.Entry<String, Entry> entry : sorted.subList(0, Math.min(sorted.size(), maxEntries))) {
+            properties.setProperty(entry.getKey(), encode(entry.getValue()));
+        }
+
+        File tmp = null;
+        try {
+            File parent = cacheFile.getAbsoluteFile().getParentFile();
+            Files.createDirectories(parent.toPath());
+
+            tmp = File.createTempFile(cacheFile.getName(), ".tmp", parent);
+            try (OutputStream out = Files.newOutputStream(tmp.toPath())) {
+                properties.store(out, HEADER);
+            }
+
+            try {
+                Files.move(tmp.toPath(), cacheFile.toPath(), StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tmp.toPath(), cacheFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            }
+
+            modified = false;
+        } catch (IOException e) {
+            log.warn("Unable to write dependency file details cache " + cacheFile + ": " + e.getMessage());
+
+            if (tmp != null) {
+                tmp.delete();
+            }
+        }
+    }
+
+    // ----------------------------------------------------------------------
+    // Private methods
+    // ----------------------------------------------------------------------
+
+    private Map<String, Entry> read() {
+        Map<String, Entry> result = new ConcurrentHashMap<>();
+        if (!cacheFile.isFile()) {
+            return result;
+        }
+
+        Properties properties = new Properties();
+        try (InputStream in = Files.newInputStream(cacheFile.toPath())) {
+            properties.load(in);
+        } catch (IOException | IllegalArgumentException e) {
+            log.warn("Unable to read dependency file details cache " + cacheFile + ": " + e.getMessage());
+            return result;
+        }
+
+        for (String path : properties.stringPropertyNames()) {
+            try {
+                result.put(path, decode(properties.getProperty(path)));
+            } catch (RuntimeException e) {
+                log.debug("Ignoring invalid dependency file details cache entry for " + path);
+            }
+        }
+
+        return result;
+    }
+
+    private static String encode(Entry entry) {
+        JarDetails details = entry.details;
+
+        StringBuilder runtimes = new StringBuilder();
+        for (JarDetails.VersionedRuntime runtime : details.getVersionedRuntimes()) {
+            if (runtimes.length() > 0) {
+                runtimes.append(',');
+            }
+            runtimes.append(runtime.getVersion())
+                    .append(':')
+                    .append(runtime.getNumEntries())
+                    .append(':')
+                    .append(runtime.getNumClasses())
+                    .append(':')
+                    .append(runtime.getNumPackages())
+                    .append(':')
+                    .append(toField(runtime.getJdkRevision()))
+                    .append(':')
+                    .append(runtime.isDebugPresent());
+        }
+
+        return entry.size + SEPARATOR + entry.lastModified + SEPARATOR + entry.sha1 + SEPARATOR + entry.lastUsed
+                + SEPARATOR + details.getNumEntries() + SEPARATOR + details.getNumRootEntries() + SEPARATOR
+                + details.getNumClasses() + SEPARATOR + details.getNumPackages() + SEPARATOR
+                + toField(details.getJdkRevision()) + SEPARATOR + details.isDebugPresent() + SEPARATOR
+                + details.isSealed() + SEPARATOR + details.isMultiRelease() + SEPARATOR
+                + (runtimes.length() > 0 ? runtimes.toString() : NONE);
+    }
+
+    private static Entry decode(String value) {
+        String[] fields = value.split("\\" + SEPARATOR, -1);
+        if (fields.length != 13) {
+            throw new IllegalArgumentException(value);
+        }
+
+        List<JarDetails.VersionedRuntime> runtimes = new ArrayList<>();
+        if (!NONE.equals(fields[12])) {
+            for (String runtime : fields[12].split(",")) {
+                String[] runtimeFields = runtime.split(":", -1);
+                runtimes.add(new JarDetails.VersionedRuntime(
+                        Integer.parseInt(runtimeFields[0]),
+                        Integer.parseInt(runtimeFields[1]),
+                        Integer.parseInt(runtimeFields[2]),
+                        Integer.parseInt(runtimeFields[3]),
+                        fromField(runtimeFields[4]),
+                        Boolean.parseBoolean(runtimeFields[5])));
+            }
+        }
+
+        JarDetails details = new JarDetails(
+                Integer.parseInt(fields[4]),
+                Integer.parseInt(fields[5]),
+                Integer.parseInt(fields[6]),
+                Integer.parseInt(fields[7]),
+                fromField(fields[8]),
+                Boolean.parseBoolean(fields[9]),
+                Boolean.parseBoolean(fields[10]),
+                Boolean.parseBoolean(fields[11]),
+                runtimes);
+
+        return new Entry(
+                Long.parseLong(fields[0]), Long.parseLong(fields[1]), fields[2], Long.parseLong(fields[3]), details);
+    }
+
+    private static String toField(String value) {
+        return value == null ? NONE : value;
+    }
+
+    private static String fromField(String field) {
+        return NONE.equals(field) ? null : field;
+    }
+
+    private static String sha1(File file) {
+        try (InputStream in = Files.newInputStream(file.toPath())) {
+            MessageDigest digest = MessageDigest.getInstance("SHA-1");
+            byte[] buffer = new byte[8192];
+            for (int read = in.read(buffer); read >= 0; read = in.read(buffer)) {
+                digest.update(buffer, 0, read);
+            }
+
+            StringBuilder sb = new StringBuilder();
+            for (byte b : digest.digest()) {
+                sb.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+            }
+            return sb.toString();
+        } catch (IOException | NoSuchAlgorithmException e) {
+            return NONE;
+        }
+    }
+
+    private static class Entry {
+        private final long size;
+
+        private final long lastModified;
+
+        private final String sha1;
+
+        private volatile long lastUsed;
+
+        private final JarDetails details;
+
+        Entry(long size, long lastModified, String sha1, long lastUsed, JarDetails details) {
+            this.size = size;
+            this.lastModified = lastModified;
+            this.sha1 = sha1;
+            this.lastUsed = lastUsed;
+            this.details = details;
+        }
+    }
+}
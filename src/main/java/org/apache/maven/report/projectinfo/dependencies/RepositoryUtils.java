@@ -19,7 +19,9 @@
 package org.apache.maven.report.projectinfo.dependencies;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.Callable;
 
 import org.apache.maven.artifact.Artifact;
 import org.apache.maven.artifact.ArtifactUtils;
@@ -31,6 +33,9 @@ import org.apache.maven.project.MavenProject;
 import org.apache.maven.project.ProjectBuilder;
 import org.apache.maven.project.ProjectBuildingException;
 import org.apache.maven.project.ProjectBuildingRequest;
+import org.apache.maven.report.projectinfo.ParallelTasks;
+import org.apache.maven.report.projectinfo.ProjectMetadata;
+import org.apache.maven.report.projectinfo.ProjectMetadataCache;
 import org.apache.maven.repository.RepositorySystem;
 import org.apache.maven.shared.transfer.artifact.resolve.ArtifactResolver;
 import org.apache.maven.shared.transfer.artifact.resolve.ArtifactResolverException;
@@ -57,6 +62,8 @@ public class RepositoryUtils {
 
     private final ProjectBuildingRequest buildingRequest;
 
+    private final ProjectMetadataCache projectMetadataCache;
+
     /**
      * @param log {@link Log}
      * @param projectBuilder {@link ProjectBuilder}
@@ -76,6 +83,40 @@ public class RepositoryUtils {
             List<ArtifactRepository> pluginRepositories,
             ProjectBuildingRequest buildingRequest,
             RepositoryMetadataManager repositoryMetadataManager) {
+        this(
+                log,
+                projectBuilder,
+                repositorySystem,
+                resolver,
+                remoteRepositories,
+                pluginRepositories,
+                buildingRequest,
+                repositoryMetadataManager,
+                new ProjectMetadataCache(0));
+    }
+
+    /**
+     * @param log {@link Log}
+     * @param projectBuilder {@link ProjectBuilder}
+     * @param repositorySystem {@link RepositorySystem}
+     * @param resolver {@link ArtifactResolver}
+     * @param remoteRepositories {@link ArtifactRepository}
+     * @param pluginRepositories {@link ArtifactRepository}
+     * @param buildingRequest {@link ProjectBuildingRequest}
+     * @param repositoryMetadataManager {@link RepositoryMetadataManager}
+     * @param projectMetadataCache {@link ProjectMetadataCache}
+     * @since 3.6.2
+     */
+    public RepositoryUtils(
+            Log log,
+            ProjectBuilder projectBuilder,
+            RepositorySystem repositorySystem,
+            ArtifactResolver resolver,
+            List<ArtifactRepository> remoteRepositories,
+            List<ArtifactRepository> pluginRepositories,
+            ProjectBuildingRequest buildingRequest,
+            RepositoryMetadataManager repositoryMetadataManager,
+            ProjectMetadataCache projectMetadataCache) {
         this.log = log;
         this.projectBuilder = projectBuilder;
         this.repositorySystem = repositorySystem;
@@ -83,6 +124,15 @@ public class RepositoryUtils {
         this.remoteRepositories = remoteRepositories;
         this.pluginRepositories = pluginRepositories;
         this.buildingRequest = buildingRequest;
+        this.projectMetadataCache = projectMetadataCache;
+    }
+
+    /**
+     * @return the cache of the projects built from the repository.
+     * @since 3.6.2
+     */
+    public ProjectMetadataCache getProjectMetadataCache() {
+        return projectMetadataCache;
     }
 
     /**
@@ -123,6 +173,49 @@ public class RepositoryUtils {
                 .getProject();
     }
 
+    /**
+     * Get the metadata of the <code>Maven project</code> from the repository depending the <code>Artifact</code>
+     * given, through the {@link ProjectMetadataCache}. The name, description, url and licenses displayed for an
+     * artifact all come from this single project build.
+     *
+     * @param artifact an artifact
+     * @return the metadata of the Maven project for the given artifact
+     * @throws ProjectBuildingException if any
+     * @since 3.6.2
+     */
+    public ProjectMetadata getProjectMetadataFromRepository(Artifact artifact) throws ProjectBuildingException {
+        return getProjectMetadataFromRepository(artifact, buildingRequest);
+    }
+
+    /**
+     * Builds the projects of the given artifacts concurrently, so that subsequent calls to
+     * {@link #getProjectMetadataFromRepository(Artifact)} are served from the {@link ProjectMetadataCache}.
+     * Failures are cached as well, and reported when the metadata is requested. Each build gets its own copy of
+     * the building request, which is not thread safe.
+     *
+     * @param artifacts the artifacts whose project to build, not null.
+     * @param threads the maximum number of threads to use, or <code>0</code> to use one thread per available
+     *            processor.
+     * @since 3.6.2
+     */
+    public void prefetchProjectMetadata(Collection<Artifact> artifacts, int threads) {
+        List<Callable<ProjectMetadata>> tasks = new ArrayList<>(artifacts.size());
+        for (final Artifact artifact : artifacts) {
+            tasks.add(new Callable<ProjectMetadata>() {
+                public ProjectMetadata call() throws ProjectBuildingException {
+                    return getProjectMetadataFromRepository(
+                            artifact, new DefaultProjectBuildingRequest(buildingRequest));
+                }
+            });
+        }
+
+        try {
+            ParallelTasks.invokeAll(tasks, threads, "mpir-project-builder");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
     /**
      * @param artifact not null
      * @param repo not null
@@ -152,4 +245,22 @@ public class RepositoryUtils {
 
         return repo.getUrl() + "/" + repo.pathOf(copyArtifact);
     }
+
+    // ----------------------------------------------------------------------
+    // Private methods
+    // ----------------------------------------------------------------------
+
+    private ProjectMetadata getProjectMetadataFromRepository(Artifact artifact, ProjectBuildingRequest request)
+            throws ProjectBuildingException {
+        Artifact projectArtifact = artifact;
+
+        boolean allowStubModel = false;
+        if (!"pom".equals(artifact.getType())) {
+            projectArtifact = repositorySystem.createProjectArtifact(
+                    artifact.getGroupId(), artifact.getArtifactId(), artifact.getVersion());
+            allowStubModel = true;
+        }
+
+        return projectMetadataCache.build(projectBuilder, projectArtifact, allowStubModel, request);
+    }
 }
@@ -18,7 +18,9 @@
  */
 package org.apache.maven.report.projectinfo.dependencies;
 
-import java.util.List;
+import java.util.ArrayDeque;
+import java.util.BitSet;
+import java.util.Deque;
 
 import org.apache.maven.doxia.sink.Sink;
 import org.apache.maven.shared.dependency.graph.DependencyNode;
@@ -83,6 +85,16 @@ public class SinkSerializingDependencyNodeVisitor implements DependencyNodeVisit
      */
     private int depth;
 
+    /**
+     * Whether the currently visited dependency node and each of its ancestors is the last of its siblings, by depth.
+     */
+    private final BitSet lastAtDepth = new BitSet();
+
+    /**
+     * The number of children of each visited ancestor not visited yet, the parent of the next visited node first.
+     */
+    private final Deque<Integer> remainingChildren = new ArrayDeque<>();
+
     // constructors -----------------------------------------------------------
 
     /**
@@ -109,6 +121,7 @@ public class SinkSerializingDependencyNodeVisitor implements DependencyNodeVisit
         sink.lineBreak();
 
         depth++;
+        remainingChildren.push(node.getChildren().size());
 
         return true;
     }
@@ -118,6 +131,7 @@ public class SinkSerializingDependencyNodeVisitor implements DependencyNodeVisit
      */
     public boolean endVisit(DependencyNode node) {
         depth--;
+        remainingChildren.pop();
 
         return true;
     }
@@ -130,55 +144,33 @@ public class SinkSerializingDependencyNodeVisitor implements DependencyNodeVisit
      * @param node the dependency node to indent
      */
     private void indent(DependencyNode node) {
+        lastAtDepth.set(depth, isLast());
+
         for (int i = 1; i < depth; i++) {
-            tokens.fillIndent(isLast(node, i));
+            tokens.fillIndent(lastAtDepth.get(i));
         }
 
         if (depth > 0) {
-            tokens.addNodeIndent(isLast(node));
+            tokens.addNodeIndent(lastAtDepth.get(depth));
         }
     }
 
     /**
-     * Gets whether the specified dependency node is the last of its siblings.
+     * Gets whether the visited dependency node is the last of its siblings, from the number of children of its
+     * parent not visited yet. The ancestors were checked when visited, so that indenting a node doesn't depend on the
+     * number of siblings of its ancestors, and the parent of the node is never looked up: the nodes of a shared graph
+     * don't link to their parents.
      *
-     * @param node the dependency node to check
-     * @return <code>true</code> if the specified dependency node is the last of its last siblings
+     * @return <code>true</code> if the visited dependency node is the last of its siblings
      */
-    private boolean isLast(DependencyNode node) {
-        // TODO: remove node argument and calculate from visitor calls only
-
-        DependencyNode parent = node.getParent();
-
-        boolean last;
-
-        if (parent == null) {
-            last = true;
-        } else {
-            List<DependencyNode> siblings = parent.getChildren();
-
-            last = (siblings.indexOf(node) == siblings.size() - 1);
+    private boolean isLast() {
+        if (remainingChildren.isEmpty()) {
+            return true;
         }
 
-        return last;
-    }
-
-    /**
-     * Gets whether the specified dependency node ancestor is the last of its siblings.
-     *
-     * @param node the dependency node whose ancestor to check
-     * @param ancestorDepth the depth of the ancestor of the specified dependency node to check
-     * @return <code>true</code> if the specified dependency node ancestor is the last of its siblings
-     */
-    private boolean isLast(DependencyNode node, int ancestorDepth) {
-        // TODO: remove node argument and calculate from visitor calls only
-
-        int distance = depth - ancestorDepth;
-
-        while (distance-- > 0) {
-            node = node.getParent();
-        }
+        int remaining = remainingChildren.pop() - 1;
+        remainingChildren.push(remaining);
 
-        return isLast(node);
+        return remaining <= 0;
     }
 }
@@ -29,7 +29,6 @@ import java.text.DecimalFormatSymbols;
 import java.text.FieldPosition;
 import java.text.MessageFormat;
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
@@ -49,23 +48,20 @@ import org.apache.maven.doxia.sink.impl.SinkEventAttributeSet;
 import org.apache.maven.doxia.util.HtmlTools;
 import org.apache.maven.model.License;
 import org.apache.maven.plugin.logging.Log;
-import org.apache.maven.project.MavenProject;
 import org.apache.maven.project.ProjectBuilder;
 import org.apache.maven.project.ProjectBuildingException;
 import org.apache.maven.project.ProjectBuildingRequest;
 import org.apache.maven.report.projectinfo.AbstractProjectInfoRenderer;
 import org.apache.maven.report.projectinfo.LicenseMapping;
 import org.apache.maven.report.projectinfo.ProjectInfoReportUtils;
+import org.apache.maven.report.projectinfo.ProjectMetadata;
 import org.apache.maven.report.projectinfo.dependencies.Dependencies;
 import org.apache.maven.report.projectinfo.dependencies.DependenciesReportConfiguration;
+import org.apache.maven.report.projectinfo.dependencies.JarDetails;
 import org.apache.maven.report.projectinfo.dependencies.RepositoryUtils;
 import org.apache.maven.report.projectinfo.dependencies.renderer.DependenciesRenderer.TotalCell.SummaryTableRowOrder;
 import org.apache.maven.repository.RepositorySystem;
 import org.apache.maven.shared.dependency.graph.DependencyNode;
-import org.apache.maven.shared.jar.JarData;
-import org.apache.maven.shared.jar.classes.JarClasses;
-import org.apache.maven.shared.jar.classes.JarVersionedRuntime;
-import org.apache.maven.shared.jar.classes.JarVersionedRuntimes;
 import org.apache.maven.shared.transfer.artifact.resolve.ArtifactResolverException;
 import org.codehaus.plexus.i18n.I18N;
 import org.codehaus.plexus.util.StringUtils;
@@ -129,14 +125,15 @@ public class DependenciesRenderer extends AbstractProjectInfoRenderer {
         }
     };
 
-    private final RepositorySystem repositorySystem;
-
-    private final ProjectBuilder projectBuilder;
-
-    private final ProjectBuildingRequest buildingRequest;
-
     private final Map<String, String> licenseMappings;
 
+    /**
+     * Ids of the detail blocks already printed in the dependency graph tree, by artifact id.
+     *
+     * @since 3.6.2
+     */
+    private final Map<String, String> dependencyDetailIds = new HashMap<>();
+
     static {
         Set<String> jarSubtype = new HashSet<>();
         jarSubtype.add("jar");
@@ -160,9 +157,6 @@ public class DependenciesRenderer extends AbstractProjectInfoRenderer {
      * @param dependencyTreeNode {@link DependencyNode}
      * @param config {@link DependenciesReportConfiguration}
      * @param repoUtils {@link RepositoryUtils}
-     * @param repositorySystem {@link RepositorySystem}
-     * @param projectBuilder {@link ProjectBuilder}
-     * @param buildingRequest {@link ProjectBuildingRequest}
      * @param licenseMappings {@link LicenseMapping}
      */
     public DependenciesRenderer(
@@ -174,9 +168,6 @@ public class DependenciesRenderer extends AbstractProjectInfoRenderer {
             DependencyNode dependencyTreeNode,
             DependenciesReportConfiguration config,
             RepositoryUtils repoUtils,
-            RepositorySystem repositorySystem,
-            ProjectBuilder projectBuilder,
-            ProjectBuildingRequest buildingRequest,
             Map<String, String> licenseMappings) {
         super(sink, i18n, locale);
 
@@ -185,14 +176,45 @@ public class DependenciesRenderer extends AbstractProjectInfoRenderer {
         this.dependencyNode = dependencyTreeNode;
         this.repoUtils = repoUtils;
         this.configuration = config;
-        this.repositorySystem = repositorySystem;
-        this.projectBuilder = projectBuilder;
-        this.buildingRequest = buildingRequest;
         this.licenseMappings = licenseMappings;
         this.fileLengthDecimalFormat = new FileDecimalFormat(i18n, locale);
         this.fileLengthDecimalFormat.setDecimalFormatSymbols(new DecimalFormatSymbols(locale));
     }
 
+    /**
+     * @param sink {@link Sink}
+     * @param locale {@link Locale}
+     * @param i18n {@link I18N}
+     * @param log {@link Log}
+     * @param dependencies {@link Dependencies}
+     * @param dependencyTreeNode {@link DependencyNode}
+     * @param config {@link DependenciesReportConfiguration}
+     * @param repoUtils {@link RepositoryUtils}
+     * @param repositorySystem {@link RepositorySystem}, not used.
+     * @param projectBuilder {@link ProjectBuilder}, not used.
+     * @param buildingRequest {@link ProjectBuildingRequest}, not used.
+     * @param licenseMappings {@link LicenseMapping}
+     * @deprecated the projects are built by the {@link RepositoryUtils}, use
+     * {@link #DependenciesRenderer(Sink, Locale, I18N, Log, Dependencies, DependencyNode,
+     * DependenciesReportConfiguration, RepositoryUtils, Map)} instead.
+     */
+    @Deprecated
+    public DependenciesRenderer(
+            Sink sink,
+            Locale locale,
+            I18N i18n,
+            Log log,
+            Dependencies dependencies,
+            DependencyNode dependencyTreeNode,
+            DependenciesReportConfiguration config,
+            RepositoryUtils repoUtils,
+            RepositorySystem repositorySystem,
+            ProjectBuilder projectBuilder,
+            ProjectBuildingRequest buildingRequest,
+            Map<String, String> licenseMappings) {
+        this(sink, locale, i18n, log, dependencies, dependencyTreeNode, config, repoUtils, licenseMappings);
+    }
+
     @Override
     protected String getI18Nsection() {
         return "dependencies";
@@ -216,6 +238,10 @@ public class DependenciesRenderer extends AbstractProjectInfoRenderer {
             return;
         }
 
+        // build the projects of all the dependencies at once, the sections below read them from the cache
+        repoUtils.prefetchProjectMetadata(
+                dependencies.getAllDependencies(), configuration.getDependencyMetadataThreads());
+
         // === Section: Project Dependencies.
         renderSectionProjectDependencies();
 
@@ -443,7 +469,7 @@ public class DependenciesRenderer extends AbstractProjectInfoRenderer {
         pw.println("      {");
         pw.println("        var div = document.getElementById( divId );");
         pw.println("        var img = document.getElementById( imgId );");
-        pw.println("        if( div.style.display == '' )");
+        pw.println("        if( div.style.display == '' && div.owner == img )");
         pw.println("        {");
         pw.println("          div.style.display = 'none';");
         pw.printf("          img.src='%s';%n", IMG_INFO_URL);
@@ -451,6 +477,14 @@ public class DependenciesRenderer extends AbstractProjectInfoRenderer {
         pw.println("        }");
         pw.println("        else");
         pw.println("        {");
+        pw.println("          // details of an artifact are printed once, and moved under the node being expanded");
+        pw.println("          if( div.owner && div.owner != img )");
+        pw.println("          {");
+        pw.printf("            div.owner.src='%s';%n", IMG_INFO_URL);
+        pw.printf("            div.owner.alt='%s';%n", getI18nString("graph.icon.information"));
+        pw.println("          }");
+        pw.println("          img.parentNode.insertBefore( div, img.nextSibling );");
+        pw.println("          div.owner = img;");
         pw.println("          div.style.display = '';");
         pw.printf("          img.src='%s';%n", IMG_CLOSE_URL);
         pw.printf("          img.alt='%s';%n", getI18nString("graph.icon.close"));
@@ -477,6 +511,8 @@ public class DependenciesRenderer extends AbstractProjectInfoRenderer {
 
         resolveAtrifacts(alldeps);
 
+        prefetchJarDependencyDetails(alldeps);
+
         // i18n
         String filename = getI18nString("file.details.column.file");
         String size = getI18nString("file.details.column.size");
@@ -550,7 +586,7 @@ public class DependenciesRenderer extends AbstractProjectInfoRenderer {
 
             if (JAR_SUBTYPE.contains(artifact.getType().toLowerCase())) {
                 try {
-                    JarData jarData = dependencies.getJarDependencyDetails(artifact);
+                    JarDetails jarData = dependencies.getJarDetails(artifact);
 
                     totalentries.addTotal(jarData.getNumEntries(), artifact.getScope());
                     totalclasses.addTotal(jarData.getNumClasses(), artifact.getScope());
@@ -605,10 +641,6 @@ public class DependenciesRenderer extends AbstractProjectInfoRenderer {
                             name, fileLength, String.valueOf(jarData.getNumEntries()), "", "", "", "", sealedCellValue
                         });
 
-                        JarVersionedRuntimes versionedRuntimes = jarData.getVersionedRuntimes();
-                        Collection<JarVersionedRuntime> versionedRuntimeList =
-                                versionedRuntimes.getVersionedRuntimeMap().values();
-
                         // root content information row
                         tableRow(hasSealed, new String[] {
                             rootTag,
@@ -621,10 +653,8 @@ public class DependenciesRenderer extends AbstractProjectInfoRenderer {
                             ""
                         });
 
-                        for (JarVersionedRuntime versionedRuntime : versionedRuntimeList) {
-                            JarClasses versionedJarClasses = versionedRuntime.getJarClasses();
-
-                            debugInformationCellValue = versionedJarClasses.isDebugPresent()
+                        for (JarDetails.VersionedRuntime versionedRuntime : jarData.getVersionedRuntimes()) {
+                            debugInformationCellValue = versionedRuntime.isDebugPresent()
                                     ? debugInformationCellYes
                                     : debugInformationCellNo;
 
@@ -632,10 +662,9 @@ public class DependenciesRenderer extends AbstractProjectInfoRenderer {
                                 versionedTag,
                                 "",
                                 String.valueOf(versionedRuntime.getNumEntries()),
-                                String.valueOf(
-                                        versionedJarClasses.getClassNames().size()),
-                                String.valueOf(versionedJarClasses.getPackages().size()),
-                                versionedJarClasses.getJdkRevision(),
+                                String.valueOf(versionedRuntime.getNumClasses()),
+                                String.valueOf(versionedRuntime.getNumPackages()),
+                                versionedRuntime.getJdkRevision(),
                                 debugInformationCellValue,
                                 ""
                             });
@@ -875,13 +904,12 @@ public class DependenciesRenderer extends AbstractProjectInfoRenderer {
         String isOptional =
                 artifact.isOptional() ? getI18nString("column.isOptional") : getI18nString("column.isNotOptional");
 
-        String url = ProjectInfoReportUtils.getArtifactUrl(repositorySystem, artifact, projectBuilder, buildingRequest);
-        String artifactIdCell = ProjectInfoReportUtils.getArtifactIdCell(artifact.getArtifactId(), url);
-
-        MavenProject artifactProject;
+        String url = null;
         StringBuilder sb = new StringBuilder();
         try {
-            artifactProject = repoUtils.getMavenProjectFromRepository(artifact);
+            ProjectMetadata artifactProject = repoUtils.getProjectMetadataFromRepository(artifact);
+
+            url = ProjectInfoReportUtils.getArtifactUrl(artifact, artifactProject);
 
             List<License> licenses = artifactProject.getLicenses();
             for (License license : licenses) {
@@ -900,6 +928,8 @@ public class DependenciesRenderer extends AbstractProjectInfoRenderer {
             }
         }
 
+        String artifactIdCell = ProjectInfoReportUtils.getArtifactIdCell(artifact.getArtifactId(), url);
+
         String[] content;
         if (withClassifier) {
             content = new String[] {
@@ -928,7 +958,12 @@ public class DependenciesRenderer extends AbstractProjectInfoRenderer {
     private void printDependencyListing(DependencyNode node) {
         Artifact artifact = node.getArtifact();
         String id = artifact.getId();
-        String dependencyDetailId = "_dep" + idCounter++;
+        String dependencyDetailId = dependencyDetailIds.get(id);
+        boolean detailsPrinted = dependencyDetailId != null;
+        if (!detailsPrinted) {
+            dependencyDetailId = "_dep" + idCounter++;
+            dependencyDetailIds.put(id, dependencyDetailId);
+        }
         String imgId = "_img" + idCounter++;
 
         sink.listItem();
@@ -943,13 +978,15 @@ public class DependenciesRenderer extends AbstractProjectInfoRenderer {
 
         sink.rawText(javascript);
 
-        printDescriptionsAndURLs(node, dependencyDetailId);
+        if (!detailsPrinted) {
+            printDescriptionsAndURLs(node, dependencyDetailId);
+        }
 
         if (!node.getChildren().isEmpty()) {
             boolean toBeIncluded = false;
             List<DependencyNode> subList = new ArrayList<>();
             for (DependencyNode dep : node.getChildren()) {
-                if (dependencies.getAllDependencies().contains(dep.getArtifact())) {
+                if (dependencies.containsDependency(dep.getArtifact())) {
                     subList.add(dep);
                     toBeIncluded = true;
                 }
@@ -976,7 +1013,7 @@ public class DependenciesRenderer extends AbstractProjectInfoRenderer {
 
         if (!Artifact.SCOPE_SYSTEM.equals(artifact.getScope())) {
             try {
-                MavenProject artifactProject = repoUtils.getMavenProjectFromRepository(artifact);
+                ProjectMetadata artifactProject = repoUtils.getProjectMetadataFromRepository(artifact);
                 String artifactDescription = artifactProject.getDescription();
                 String artifactUrl = artifactProject.getUrl();
                 String artifactName = artifactProject.getName();
@@ -1169,6 +1206,23 @@ public class DependenciesRenderer extends AbstractProjectInfoRenderer {
         }
     }
 
+    /**
+     * Analyzes all jar files of the given artifacts up-front, using the configured number of threads.
+     *
+     * @param artifacts not null
+     */
+    private void prefetchJarDependencyDetails(List<Artifact> artifacts) {
+        List<Artifact> jarArtifacts = new ArrayList<>(artifacts.size());
+        for (Artifact artifact : artifacts) {
+            if (artifact.getFile() != null
+                    && JAR_SUBTYPE.contains(artifact.getType().toLowerCase())) {
+                jarArtifacts.add(artifact);
+            }
+        }
+
+        dependencies.prefetchJarDependencyDetails(jarArtifacts, configuration.getDependencyDetailsThreads());
+    }
+
     /**
      * @param artifacts not null
      * @return <code>true</code> if one artifact in the list has a classifier, <code>false</code> otherwise.
@@ -1206,7 +1260,7 @@ public class DependenciesRenderer extends AbstractProjectInfoRenderer {
             if (artifact.getFile() != null
                     && JAR_SUBTYPE.contains(artifact.getType().toLowerCase())) {
                 try {
-                    JarData jarDetails = dependencies.getJarDependencyDetails(artifact);
+                    JarDetails jarDetails = dependencies.getJarDetails(artifact);
                     if (jarDetails.isSealed()) {
                         return true;
                     }
@@ -35,13 +35,14 @@ import org.apache.maven.doxia.sink.Sink;
 import org.apache.maven.model.Dependency;
 import org.apache.maven.model.License;
 import org.apache.maven.plugin.logging.Log;
-import org.apache.maven.project.MavenProject;
 import org.apache.maven.project.ProjectBuilder;
 import org.apache.maven.project.ProjectBuildingException;
 import org.apache.maven.project.ProjectBuildingRequest;
 import org.apache.maven.report.projectinfo.AbstractProjectInfoRenderer;
+import org.apache.maven.report.projectinfo.ArtifactVersionsCache;
 import org.apache.maven.report.projectinfo.LicenseMapping;
 import org.apache.maven.report.projectinfo.ProjectInfoReportUtils;
+import org.apache.maven.report.projectinfo.ProjectMetadata;
 import org.apache.maven.report.projectinfo.dependencies.ManagementDependencies;
 import org.apache.maven.report.projectinfo.dependencies.RepositoryUtils;
 import org.apache.maven.repository.RepositorySystem;
@@ -61,14 +62,14 @@ public class DependencyManagementRenderer extends AbstractProjectInfoRenderer {
 
     private final RepositorySystem repositorySystem;
 
-    private final ProjectBuilder projectBuilder;
-
     private final ProjectBuildingRequest buildingRequest;
 
     private final RepositoryUtils repoUtils;
 
     private final Map<String, String> licenseMappings;
 
+    private final ArtifactVersionsCache artifactVersionsCache;
+
     /**
      * Default constructor
      *
@@ -79,11 +80,52 @@ public class DependencyManagementRenderer extends AbstractProjectInfoRenderer {
      * @param dependencies {@link ManagementDependencies}
      * @param artifactMetadataSource {@link ArtifactMetadataSource}
      * @param repositorySystem {@link RepositorySystem}
-     * @param projectBuilder {@link ProjectBuilder}
      * @param buildingRequest {@link ProjectBuildingRequest}
      * @param repoUtils {@link RepositoryUtils}
      * @param licenseMappings {@link LicenseMapping}
      */
+    public DependencyManagementRenderer(
+            Sink sink,
+            Locale locale,
+            I18N i18n,
+            Log log,
+            ManagementDependencies dependencies,
+            ArtifactMetadataSource artifactMetadataSource,
+            RepositorySystem repositorySystem,
+            ProjectBuildingRequest buildingRequest,
+            RepositoryUtils repoUtils,
+            Map<String, String> licenseMappings) {
+        this(
+                sink,
+                locale,
+                i18n,
+                log,
+                dependencies,
+                artifactMetadataSource,
+                repositorySystem,
+                buildingRequest,
+                repoUtils,
+                licenseMappings,
+                new ArtifactVersionsCache(null, 0, false));
+    }
+
+    /**
+     * @param sink {@link Sink}
+     * @param locale {@link Locale}
+     * @param i18n {@link I18N}
+     * @param log {@link Log}
+     * @param dependencies {@link ManagementDependencies}
+     * @param artifactMetadataSource {@link ArtifactMetadataSource}
+     * @param repositorySystem {@link RepositorySystem}
+     * @param projectBuilder {@link ProjectBuilder}, not used.
+     * @param buildingRequest {@link ProjectBuildingRequest}
+     * @param repoUtils {@link RepositoryUtils}
+     * @param licenseMappings {@link LicenseMapping}
+     * @deprecated the projects are built by the {@link RepositoryUtils}, use
+     * {@link #DependencyManagementRenderer(Sink, Locale, I18N, Log, ManagementDependencies, ArtifactMetadataSource,
+     * RepositorySystem, ProjectBuildingRequest, RepositoryUtils, Map)} instead.
+     */
+    @Deprecated
     public DependencyManagementRenderer(
             Sink sink,
             Locale locale,
@@ -96,16 +138,55 @@ public class DependencyManagementRenderer extends AbstractProjectInfoRenderer {
             ProjectBuildingRequest buildingRequest,
             RepositoryUtils repoUtils,
             Map<String, String> licenseMappings) {
+        this(
+                sink,
+                locale,
+                i18n,
+                log,
+                dependencies,
+                artifactMetadataSource,
+                repositorySystem,
+                buildingRequest,
+                repoUtils,
+                licenseMappings);
+    }
+
+    /**
+     * @param sink {@link Sink}
+     * @param locale {@link Locale}
+     * @param i18n {@link I18N}
+     * @param log {@link Log}
+     * @param dependencies {@link ManagementDependencies}
+     * @param artifactMetadataSource {@link ArtifactMetadataSource}
+     * @param repositorySystem {@link RepositorySystem}
+     * @param buildingRequest {@link ProjectBuildingRequest}
+     * @param repoUtils {@link RepositoryUtils}
+     * @param licenseMappings {@link LicenseMapping}
+     * @param artifactVersionsCache {@link ArtifactVersionsCache}
+     * @since 3.6.2
+     */
+    public DependencyManagementRenderer(
+            Sink sink,
+            Locale locale,
+            I18N i18n,
+            Log log,
+            ManagementDependencies dependencies,
+            ArtifactMetadataSource artifactMetadataSource,
+            RepositorySystem repositorySystem,
+            ProjectBuildingRequest buildingRequest,
+            RepositoryUtils repoUtils,
+            Map<String, String> licenseMappings,
+            ArtifactVersionsCache artifactVersionsCache) {
         super(sink, i18n, locale);
 
         this.log = log;
         this.dependencies = dependencies;
         this.artifactMetadataSource = artifactMetadataSource;
         this.repositorySystem = repositorySystem;
-        this.projectBuilder = projectBuilder;
         this.buildingRequest = buildingRequest;
         this.repoUtils = repoUtils;
         this.licenseMappings = licenseMappings;
+        this.artifactVersionsCache = artifactVersionsCache;
     }
 
     // ----------------------------------------------------------------------
@@ -221,8 +302,11 @@ public class DependencyManagementRenderer extends AbstractProjectInfoRenderer {
                 // MPIR-216: no direct version but version range: need to choose one precise version
                 log.debug("Resolving range for DependencyManagement on " + artifact.getId());
 
-                List<ArtifactVersion> versions = artifactMetadataSource.retrieveAvailableVersions(
-                        artifact, buildingRequest.getLocalRepository(), buildingRequest.getRemoteRepositories());
+                List<ArtifactVersion> versions = artifactVersionsCache.getAvailableVersions(
+                        artifactMetadataSource,
+                        artifact,
+                        buildingRequest.getLocalRepository(),
+                        buildingRequest.getRemoteRepositories());
 
                 // only use versions from range
                 for (Iterator<ArtifactVersion> iter = versions.iterator(); iter.hasNext(); ) {
@@ -240,9 +324,9 @@ public class DependencyManagementRenderer extends AbstractProjectInfoRenderer {
                 }
             }
 
-            url = ProjectInfoReportUtils.getArtifactUrl(repositorySystem, artifact, projectBuilder, buildingRequest);
+            ProjectMetadata artifactProject = repoUtils.getProjectMetadataFromRepository(artifact);
 
-            MavenProject artifactProject = repoUtils.getMavenProjectFromRepository(artifact);
+            url = ProjectInfoReportUtils.getArtifactUrl(artifact, artifactProject);
 
             List<License> licenses = artifactProject.getLicenses();
             for (License license : licenses) {
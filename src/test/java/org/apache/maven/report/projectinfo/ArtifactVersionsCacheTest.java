@@ -0,0 +1,172 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.report.projectinfo;
+
+import java.io.File;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import junit.framework.TestCase;
+import org.apache.maven.artifact.Artifact;
+import org.apache.maven.artifact.DefaultArtifact;
+import org.apache.maven.artifact.handler.DefaultArtifactHandler;
+import org.apache.maven.artifact.metadata.ArtifactMetadataRetrievalException;
+import org.apache.maven.artifact.metadata.ArtifactMetadataSource;
+import org.apache.maven.artifact.repository.ArtifactRepository;
+import org.apache.maven.artifact.repository.ArtifactRepositoryPolicy;
+import org.apache.maven.artifact.repository.MavenArtifactRepository;
+import org.apache.maven.artifact.repository.layout.DefaultRepositoryLayout;
+import org.apache.maven.artifact.versioning.ArtifactVersion;
+import org.apache.maven.artifact.versioning.DefaultArtifactVersion;
+import org.apache.maven.artifact.versioning.VersionRange;
+import org.codehaus.plexus.util.FileUtils;
+
+/**
+ * @since 3.6.2
+ */
+public class ArtifactVersionsCacheTest extends TestCase {
+    private int retrievals;
+
+    private boolean failing;
+
+    private ArtifactMetadataSource artifactMetadataSource;
+
+    private Artifact artifact;
+
+    private List<ArtifactRepository> remoteRepositories;
+
+    private File directory;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+
+        retrievals = 0;
+        failing = false;
+        artifactMetadataSource = (ArtifactMetadataSource) Proxy.newProxyInstance(
+                getClass().getClassLoader(), new Class<?>[] {ArtifactMetadataSource.class}, new InvocationHandler() {
+                    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+                        if (!"retrieveAvailableVersions".equals(method.getName())) {
+                            throw new UnsupportedOperationException(method.getName());
+                        }
+
+                        retrievals++;
+                        if (failing) {
+                            throw new ArtifactMetadataRetrievalException("offline");
+                        }
+                        return new ArrayList<ArtifactVersion>(Arrays.asList(
+                                new DefaultArtifactVersion("1.0"), new DefaultArtifactVersion("1.1")));
+                    }
+                });
+        artifact = new DefaultArtifact(
+                "org.example",
+                "bom-managed",
+                VersionRange.createFromVersionSpec("[1.0,2.0)"),
+                Artifact.SCOPE_COMPILE,
+                "jar",
+                null,
+                new DefaultArtifactHandler("jar"));
+        remoteRepositories = Collections.emptyList();
+        directory = Files.createTempDirectory("versions-cache").toFile();
+    }
+
+    @Override
+    protected void tearDown() throws Exception {
+        FileUtils.deleteDirectory(directory);
+
+        super.tearDown();
+    }
+
+    public void testSessionCache() throws Exception {
+        ArtifactVersionsCache cache = new ArtifactVersionsCache(null, 60000, false);
+
+        List<ArtifactVersion> versions = getAvailableVersions(cache);
+        versions.clear();
+
+        assertEquals("[1.0, 1.1]", getAvailableVersions(cache).toString());
+        assertEquals(1, retrievals);
+        assertEquals(1, cache.getMisses());
+        assertEquals(1, cache.getHits());
+    }
+
+    public void testExpiredEntriesAreRetrievedAgain() throws Exception {
+        ArtifactVersionsCache cache = new ArtifactVersionsCache(null, 0, false);
+
+        getAvailableVersions(cache);
+        getAvailableVersions(cache);
+
+        assertEquals(2, retrievals);
+    }
+
+    public void testPersistentCache() throws Exception {
+        getAvailableVersions(new ArtifactVersionsCache(directory, 60000, false));
+
+        ArtifactVersionsCache nextBuild = new ArtifactVersionsCache(directory, 60000, false);
+        assertEquals("[1.0, 1.1]", getAvailableVersions(nextBuild).toString());
+        assertEquals(1, retrievals);
+        assertEquals(1, nextBuild.getPersistentHits());
+
+        // other repositories
+        remoteRepositories = Collections.<ArtifactRepository>singletonList(new MavenArtifactRepository(
+                "corporate",
+                "https://repo.example.com/maven2",
+                new DefaultRepositoryLayout(),
+                new ArtifactRepositoryPolicy(),
+                new ArtifactRepositoryPolicy()));
+        getAvailableVersions(nextBuild);
+        assertEquals(2, retrievals);
+    }
+
+    public void testStaleEntryIsUsedWhenRetrievalFails() throws Exception {
+        getAvailableVersions(new ArtifactVersionsCache(directory, 0, false));
+
+        failing = true;
+        ArtifactVersionsCache nextBuild = new ArtifactVersionsCache(directory, 0, false);
+        assertEquals("[1.0, 1.1]", getAvailableVersions(nextBuild).toString());
+        assertEquals(1, nextBuild.getStaleHits());
+        assertEquals(2, retrievals);
+
+        try {
+            getAvailableVersions(new ArtifactVersionsCache(null, 0, false));
+            fail("ArtifactMetadataRetrievalException expected");
+        } catch (ArtifactMetadataRetrievalException e) {
+            assertEquals(3, retrievals);
+        }
+    }
+
+    public void testOffline() throws Exception {
+        getAvailableVersions(new ArtifactVersionsCache(directory, 0, false));
+
+        ArtifactVersionsCache offline = new ArtifactVersionsCache(directory, 0, true);
+        assertEquals("[1.0, 1.1]", getAvailableVersions(offline).toString());
+        assertEquals(1, retrievals);
+        assertEquals(1, offline.getPersistentHits());
+    }
+
+    private List<ArtifactVersion> getAvailableVersions(ArtifactVersionsCache cache)
+            throws ArtifactMetadataRetrievalException {
+        return cache.getAvailableVersions(artifactMetadataSource, artifact, null, remoteRepositories);
+    }
+}
@@ -0,0 +1,166 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.report.projectinfo;
+
+import java.io.File;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+
+import junit.framework.TestCase;
+import org.apache.maven.artifact.Artifact;
+import org.apache.maven.artifact.DefaultArtifact;
+import org.apache.maven.artifact.handler.DefaultArtifactHandler;
+import org.apache.maven.model.Model;
+import org.apache.maven.project.DefaultProjectBuildingRequest;
+import org.apache.maven.project.MavenProject;
+import org.apache.maven.project.ProjectBuildingRequest;
+import org.apache.maven.shared.dependency.graph.DependencyGraphBuilder;
+import org.apache.maven.shared.dependency.graph.DependencyGraphBuilderException;
+import org.apache.maven.shared.dependency.graph.DependencyNode;
+import org.apache.maven.shared.dependency.graph.internal.DefaultDependencyNode;
+
+/**
+ * @since 3.6.2
+ */
+public class DependencyGraphCacheTest extends TestCase {
+    private int builds;
+
+    private DependencyGraphBuilder dependencyGraphBuilder;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+
+        builds = 0;
+        dependencyGraphBuilder = (DependencyGraphBuilder) Proxy.newProxyInstance(
+                getClass().getClassLoader(), new Class<?>[] {DependencyGraphBuilder.class}, new InvocationHandler() {
+                    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+                        builds++;
+
+                        MavenProject project = ((ProjectBuildingRequest) args[0]).getProject();
+                        if ("broken".equals(project.getArtifactId())) {
+                            throw new DependencyGraphBuilderException("broken");
+                        }
+                        DefaultDependencyNode root =
+                                new DefaultDependencyNode(null, newArtifact(project.getArtifactId()), null, null, null);
+                        List<DependencyNode> children = new ArrayList<>();
+                        children.add(new DefaultDependencyNode(root, newArtifact("dependency"), null, null, null));
+                        root.setChildren(children);
+                        return root;
+                    }
+                });
+    }
+
+    public void testGraphIsBuiltOncePerProjectAndScope() throws Exception {
+        DependencyGraphCache cache = new DependencyGraphCache(10, 10);
+
+        DependencyNode first =
+                cache.buildDependencyGraph(dependencyGraphBuilder, newRequest("a"), Artifact.SCOPE_TEST);
+        DependencyNode second =
+                cache.buildDependencyGraph(dependencyGraphBuilder, newRequest("a"), Artifact.SCOPE_TEST);
+        assertEquals(first.getArtifact(), second.getArtifact());
+        assertEquals(1, builds);
+
+        cache.buildDependencyGraph(dependencyGraphBuilder, newRequest("a"), Artifact.SCOPE_COMPILE);
+        cache.buildDependencyGraph(dependencyGraphBuilder, newRequest("a"), null);
+        cache.buildDependencyGraph(dependencyGraphBuilder, newRequest("b"), Artifact.SCOPE_TEST);
+        assertEquals(4, builds);
+        assertEquals(1, cache.getHits());
+        assertEquals(4, cache.getMisses());
+    }
+
+    public void testReportsWithEqualScopesShareGraph() throws Exception {
+        DependencyGraphCache cache = new DependencyGraphCache(10, 10);
+
+        // as two reports would, with scopes that are equal but not the same instance
+        DependencyNode first = cache.buildDependencyGraph(
+                dependencyGraphBuilder, newRequest("a"), new String(Artifact.SCOPE_TEST.toCharArray()));
+        DependencyNode second = cache.buildDependencyGraph(
+                dependencyGraphBuilder, newRequest("a"), new String(Artifact.SCOPE_TEST.toCharArray()));
+
+        assertEquals(first.getArtifact(), second.getArtifact());
+        assertEquals(1, builds);
+    }
+
+    public void testResolvedGraphsAreCopied() throws Exception {
+        DependencyGraphCache cache = new DependencyGraphCache(10, 10);
+
+        DependencyNode first = cache.buildDependencyGraph(dependencyGraphBuilder, newRequest("a"), null);
+        Artifact resolved = first.getChildren().get(0).getArtifact();
+        // as the dependencies report does
+        resolved.setFile(new File("dependency-1.0.jar"));
+        resolved.setResolved(true);
+
+        DependencyNode second = cache.buildDependencyGraph(dependencyGraphBuilder, newRequest("a"), null);
+        assertEquals(1, builds);
+        assertNotSame(first, second);
+        DependencyNode child = second.getChildren().get(0);
+        assertSame(second, child.getParent());
+        assertEquals(resolved, child.getArtifact());
+        assertNotSame(resolved, child.getArtifact());
+        assertNull(child.getArtifact().getFile());
+        assertFalse(child.getArtifact().isResolved());
+    }
+
+    public void testLeastRecentlyUsedResolvedGraphsAreEvicted() throws Exception {
+        DependencyGraphCache cache = new DependencyGraphCache(1, 10);
+
+        cache.buildDependencyGraph(dependencyGraphBuilder, newRequest("a"), null);
+        cache.buildDependencyGraph(dependencyGraphBuilder, newRequest("a"), null);
+        cache.buildDependencyGraph(dependencyGraphBuilder, newRequest("b"), null);
+        cache.buildDependencyGraph(dependencyGraphBuilder, newRequest("a"), null);
+
+        assertEquals(3, builds);
+        assertEquals(1, cache.size());
+    }
+
+    public void testFailureIsCached() throws Exception {
+        DependencyGraphCache cache = new DependencyGraphCache(10, 10);
+
+        for (int i = 0; i < 2; i++) {
+            try {
+                cache.buildDependencyGraph(dependencyGraphBuilder, newRequest("broken"), null);
+                fail("DependencyGraphBuilderException expected");
+            } catch (DependencyGraphBuilderException e) {
+                // expected
+            }
+        }
+
+        assertEquals(1, builds);
+    }
+
+    private static Artifact newArtifact(String artifactId) {
+        return new DefaultArtifact(
+                "org.example", artifactId, "1.0", "compile", "jar", null, new DefaultArtifactHandler("jar"));
+    }
+
+    private static ProjectBuildingRequest newRequest(String artifactId) {
+        Model model = new Model();
+        model.setGroupId("org.example");
+        model.setArtifactId(artifactId);
+        model.setVersion("1.0");
+
+        ProjectBuildingRequest buildingRequest = new DefaultProjectBuildingRequest();
+        buildingRequest.setProject(new MavenProject(model));
+        return buildingRequest;
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.report.projectinfo;
+
+import junit.framework.TestCase;
+
+/**
+ * @since 3.6.2
+ */
+public class HtmlLinkRewriterTest extends TestCase {
+    private static final String BASE_URL = "https://www.apache.org/licenses/";
+
+    public void testRewriteLinks() {
+        assertEquals(
+                "<a href=\"https://www.apache.org/licenses/LICENSE-2.0.txt\">txt</a>",
+                HtmlLinkRewriter.rewriteLinks("<a href=\"LICENSE-2.0.txt\">txt</a>", BASE_URL));
+        assertEquals(
+                "<A class=\"x\" HREF = \"https://www.apache.org/foundation/\">foundation</A>",
+                HtmlLinkRewriter.rewriteLinks("<A class=\"x\" HREF = \"/foundation/\">foundation</A>", BASE_URL));
+        assertEquals(
+                "<img alt=\"logo\" src=\"https://www.apache.org/licenses/logo.png\"/>",
+                HtmlLinkRewriter.rewriteLinks("<img alt=\"logo\" src=\"logo.png\"/>", BASE_URL));
+
+        // absolute and non double quoted links are kept
+        String kept = "<a href=\"http://example.com/\">a</a><a href=\"mailto:a@b.c\">b</a><a href='c.html'>c</a>"
+                + "<abbr title=\"d.html\">d</abbr><area href=\"e.html\"><a>f</a>";
+        assertEquals(kept, HtmlLinkRewriter.rewriteLinks(kept, BASE_URL));
+
+        // base without trailing slash
+        assertEquals(
+                "<p><a href=\"http://localhost/dir/a.html\">a</a> and <img src=\"http://localhost/b.png\"></p>",
+                HtmlLinkRewriter.rewriteLinks(
+                        "<p><a href=\"a.html\">a</a> and <img src=\"/b.png\"></p>", "http://localhost/dir"));
+    }
+
+    public void testRewriteBody() {
+        String html = "<!DOCTYPE html>\n<html><head><title>License</title></head>\n"
+                + "<BODY class=\"license\"><h1>License</h1><a href=\"#terms\">terms</a></BODY></html>";
+
+        assertEquals(
+                "<h1>License</h1><a href=\"https://www.apache.org/licenses/#terms\">terms</a>",
+                HtmlLinkRewriter.rewriteBody(html, BASE_URL));
+    }
+
+    public void testRewriteBodyOfNonHtml() {
+        assertNull(HtmlLinkRewriter.rewriteBody("Apache License, Version 2.0 <body>", BASE_URL));
+        assertNull(HtmlLinkRewriter.rewriteBody("<html><head></head></html>", BASE_URL));
+        assertNull(HtmlLinkRewriter.rewriteBody("<html></body><body></html>", BASE_URL));
+    }
+}
@@ -0,0 +1,246 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.report.projectinfo;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.net.InetSocketAddress;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+import junit.framework.TestCase;
+import org.apache.maven.doxia.sink.impl.SinkAdapter;
+import org.apache.maven.model.License;
+import org.apache.maven.model.Model;
+import org.apache.maven.project.MavenProject;
+import org.apache.maven.settings.Settings;
+import org.codehaus.plexus.i18n.I18N;
+import org.codehaus.plexus.util.FileUtils;
+import org.codehaus.plexus.util.ReflectionUtils;
+
+/**
+ * Tests {@link LicenseContentCache}, and the offline licenses report using it, against a local HTTP server which
+ * serves one license with an <code>ETag</code>.
+ *
+ * @since 3.6.2
+ */
+public class LicenseContentCacheTest extends TestCase {
+    private static final String LICENSE = "Licensed to the Apache Software Foundation";
+
+    private static final String ETAG = "\"license-1\"";
+
+    private final AtomicInteger requests = new AtomicInteger();
+
+    private final AtomicInteger notModified = new AtomicInteger();
+
+    private HttpServer server;
+
+    private URL url;
+
+    private File directory;
+
+    private Settings settings;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/LICENSE.txt", new HttpHandler() {
+            public void handle(HttpExchange exchange) throws IOException {
+                requests.incrementAndGet();
+
+                exchange.getResponseHeaders().set("ETag", ETAG);
+                if (ETAG.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+                    notModified.incrementAndGet();
+                    exchange.sendResponseHeaders(304, -1);
+                } else {
+                    byte[] content = LICENSE.getBytes(StandardCharsets.UTF_8);
+                    exchange.sendResponseHeaders(200, content.length);
+                    try (OutputStream out = exchange.getResponseBody()) {
+                        out.write(content);
+                    }
+                }
+                exchange.close();
+            }
+        });
+        server.start();
+
+        url = new URL("http://localhost:" + server.getAddress().getPort() + "/LICENSE.txt");
+        directory = Files.createTempDirectory("license-cache").toFile();
+        settings = new Settings();
+    }
+
+    @Override
+    protected void tearDown() throws Exception {
+        server.stop(0);
+        FileUtils.deleteDirectory(directory);
+
+        super.tearDown();
+    }
+
+    public void testFreshEntryIsServedWithoutRequest() throws Exception {
+        LicenseContentCache cache = new LicenseContentCache(directory, 60000, false);
+
+        assertFalse(cache.contains(url));
+        assertEquals(LICENSE, cache.getContent(url, null, settings, "UTF-8"));
+        assertTrue(cache.contains(url));
+        assertEquals(LICENSE, cache.getContent(url, null, settings, "UTF-8"));
+
+        // persisted for the next builds
+        LicenseContentCache nextBuild = new LicenseContentCache(directory, 60000, false);
+        assertEquals(LICENSE, nextBuild.getContent(url, null, settings, "UTF-8"));
+
+        assertEquals(1, requests.get());
+        assertEquals(1, cache.getDownloads());
+        assertEquals(1, cache.getHits());
+        assertEquals(1, nextBuild.getHits());
+    }
+
+    public void testExpiredEntryIsRevalidated() throws Exception {
+        LicenseContentCache cache = new LicenseContentCache(directory, 0, false);
+
+        assertEquals(LICENSE, cache.getContent(url, null, settings, "UTF-8"));
+        assertEquals(LICENSE, cache.getContent(url, null, settings, "UTF-8"));
+
+        assertEquals(2, requests.get());
+        assertEquals(1, notModified.get());
+        assertEquals(1, cache.getDownloads());
+        assertEquals(1, cache.getRevalidations());
+    }
+
+    public void testExpiredEntryIsServedWhenServerIsDown() throws Exception {
+        LicenseContentCache cache = new LicenseContentCache(directory, 0, false);
+        assertEquals(LICENSE, cache.getContent(url, null, settings, "UTF-8"));
+
+        server.stop(0);
+
+        assertEquals(LICENSE, cache.getContent(url, null, settings, "UTF-8"));
+        assertEquals(1, cache.getStaleHits());
+    }
+
+    public void testOffline() throws Exception {
+        LicenseContentCache offline = new LicenseContentCache(directory, 0, true);
+        try {
+            offline.getContent(url, null, settings, "UTF-8");
+            fail("IOException expected");
+        } catch (IOException e) {
+            assertEquals(0, requests.get());
+        }
+
+        new LicenseContentCache(directory, 0, false).getContent(url, null, settings, "UTF-8");
+
+        assertEquals(LICENSE, offline.getContent(url, null, settings, "UTF-8"));
+        assertEquals(1, requests.get());
+        assertEquals(1, offline.getHits());
+    }
+
+    public void testOfflineReportInlinesCachedLicenses() throws Exception {
+        new LicenseContentCache(directory, 0, false).getContent(url, null, settings, "UTF-8");
+
+        LicensesReport licensesReport = new LicensesReport();
+        ReflectionUtils.setVariableValueInObject(licensesReport, "project", newProject());
+        ReflectionUtils.setVariableValueInObject(licensesReport, "offline", true);
+        ReflectionUtils.setVariableValueInObject(licensesReport, "licenseCacheDirectory", directory);
+        assertTrue(licensesReport.canGenerateReport());
+
+        String report = renderLicenses(new LicenseContentCache(directory, 0, true));
+
+        assertTrue(report, report.contains(LICENSE));
+        assertEquals(1, requests.get());
+    }
+
+    public void testOfflineReportLinksLicensesNotCached() throws Exception {
+        String report = renderLicenses(new LicenseContentCache(directory, 0, true));
+
+        assertFalse(report, report.contains(LICENSE));
+        assertTrue(report, report.contains(url.toExternalForm()));
+        assertEquals(0, requests.get());
+    }
+
+    public void testNoDirectory() throws Exception {
+        LicenseContentCache cache = new LicenseContentCache(null, 60000, false);
+
+        assertEquals(LICENSE, cache.getContent(url, null, settings, "UTF-8"));
+        assertEquals(LICENSE, cache.getContent(url, null, settings, "UTF-8"));
+        assertFalse(cache.contains(url));
+
+        assertEquals(2, requests.get());
+        assertEquals(0, cache.getDownloads());
+    }
+
+    /**
+     * @return a project declaring the license.
+     */
+    private MavenProject newProject() {
+        License license = new License();
+        license.setName("Apache License");
+        license.setUrl(url.toExternalForm());
+        Model model = new Model();
+        model.addLicense(license);
+        return new MavenProject(model);
+    }
+
+    /**
+     * @return the text of the licenses report of a project declaring the license, rendered offline.
+     */
+    private String renderLicenses(LicenseContentCache cache) {
+
+        I18N i18n = (I18N) Proxy.newProxyInstance(
+                getClass().getClassLoader(), new Class<?>[] {I18N.class}, new InvocationHandler() {
+                    public Object invoke(Object proxy, Method method, Object[] args) {
+                        return args[args.length - 1];
+                    }
+                });
+
+        final StringBuilder text = new StringBuilder();
+        SinkAdapter sink = new SinkAdapter() {
+            @Override
+            public void text(String t) {
+                text.append(t).append('\n');
+            }
+        };
+
+        new LicensesReport.LicensesRenderer(
+                        sink,
+                        newProject(),
+                        i18n,
+                        Locale.ENGLISH,
+                        settings,
+                        false,
+                        true,
+                        "UTF-8",
+                        cache,
+                        new LicenseFetcher(),
+                        1)
+                .render();
+
+        return text.toString();
+    }
+}
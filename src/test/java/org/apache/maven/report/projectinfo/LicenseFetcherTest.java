@@ -0,0 +1,187 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.report.projectinfo;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+import junit.framework.TestCase;
+import org.apache.maven.settings.Proxy;
+import org.apache.maven.settings.Settings;
+
+/**
+ * @since 3.6.2
+ */
+public class LicenseFetcherTest extends TestCase {
+    private final Settings settings = new Settings();
+
+    private final LicenseContentCache cache = new LicenseContentCache(null, 0, false);
+
+    public void testSameUrlIsFetchedOncePerSession() throws Exception {
+        File license = File.createTempFile("LICENSE", ".txt");
+        try {
+            Files.write(license.toPath(), "first".getBytes(StandardCharsets.UTF_8));
+            URL url = license.toURI().toURL();
+
+            LicenseFetcher fetcher = new LicenseFetcher();
+            List<Future<String>> module1 = fetcher.fetch(Arrays.asList(url, url), settings, "UTF-8", cache, 2);
+
+            Files.write(license.toPath(), "second".getBytes(StandardCharsets.UTF_8));
+            List<Future<String>> module2 = fetcher.fetch(Arrays.asList(url), settings, "UTF-8", cache, 2);
+
+            assertEquals("first", module1.get(0).get());
+            assertEquals("first", module1.get(1).get());
+            assertEquals("first", module2.get(0).get());
+            assertEquals(1, fetcher.getMisses());
+            assertEquals(2, fetcher.getHits());
+        } finally {
+            license.delete();
+        }
+    }
+
+    public void testFetchesAreNotSharedAcrossSettings() throws Exception {
+        File license = File.createTempFile("LICENSE", ".txt");
+        try {
+            Files.write(license.toPath(), "license".getBytes(StandardCharsets.UTF_8));
+            URL url = license.toURI().toURL();
+
+            Settings proxySettings = new Settings();
+            Proxy proxy = new Proxy();
+            proxy.setHost("proxy.example.com");
+            proxySettings.addProxy(proxy);
+
+            LicenseFetcher fetcher = new LicenseFetcher();
+            fetcher.fetch(Arrays.asList(url), settings, "UTF-8", cache, 1);
+            fetcher.fetch(Arrays.asList(url), settings, "UTF-8", new LicenseContentCache(null, 0, true), 1);
+            fetcher.fetch(Arrays.asList(url), proxySettings, "UTF-8", cache, 1);
+            fetcher.fetch(Arrays.asList(url), settings, "ISO-8859-1", cache, 1);
+
+            assertEquals(4, fetcher.getMisses());
+            assertEquals(0, fetcher.getHits());
+        } finally {
+            license.delete();
+        }
+    }
+
+    public void testLeastRecentlyUsedContentsAreEvicted() throws Exception {
+        File first = File.createTempFile("LICENSE", ".txt");
+        File second = File.createTempFile("LICENSE", ".txt");
+        try {
+            LicenseFetcher fetcher = new LicenseFetcher(1);
+            fetcher.fetch(Arrays.asList(first.toURI().toURL()), settings, "UTF-8", cache, 1);
+            fetcher.fetch(Arrays.asList(second.toURI().toURL()), settings, "UTF-8", cache, 1);
+            fetcher.fetch(Arrays.asList(first.toURI().toURL()), settings, "UTF-8", cache, 1);
+
+            assertEquals(3, fetcher.getMisses());
+        } finally {
+            first.delete();
+            second.delete();
+        }
+    }
+
+    public void testContentsAreInOrderOfUrls() throws Exception {
+        File missing = new File("target/missing-license.txt");
+        File license = File.createTempFile("LICENSE", ".txt");
+        try {
+            Files.write(license.toPath(), "license".getBytes(StandardCharsets.UTF_8));
+
+            List<Future<String>> contents = new LicenseFetcher()
+                    .fetch(
+                            Arrays.asList(missing.toURI().toURL(), license.toURI().toURL()),
+                            settings,
+                            "UTF-8",
+                            cache,
+                            2);
+
+            try {
+                contents.get(0).get();
+                fail("ExecutionException expected");
+            } catch (ExecutionException e) {
+                assertTrue(e.getCause() instanceof IOException);
+            }
+            assertEquals("license", contents.get(1).get());
+        } finally {
+            license.delete();
+        }
+    }
+
+    public void testDistinctUrlsAreFetchedConcurrently() throws Exception {
+        final CyclicBarrier barrier = new CyclicBarrier(2);
+        final AtomicInteger requests = new AtomicInteger();
+
+        HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        server.setExecutor(executor);
+        server.createContext("/", new HttpHandler() {
+            public void handle(HttpExchange exchange) throws IOException {
+                requests.incrementAndGet();
+                try {
+                    // only passes when both licenses are fetched at the same time
+                    barrier.await(5, TimeUnit.SECONDS);
+                } catch (Exception e) {
+                    exchange.sendResponseHeaders(500, -1);
+                    exchange.close();
+                    return;
+                }
+
+                byte[] content = exchange.getRequestURI().getPath().getBytes(StandardCharsets.UTF_8);
+                exchange.sendResponseHeaders(200, content.length);
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(content);
+                }
+                exchange.close();
+            }
+        });
+        server.start();
+        try {
+            String base = "http://localhost:" + server.getAddress().getPort();
+            List<Future<String>> contents = new LicenseFetcher()
+                    .fetch(
+                            Arrays.asList(new URL(base + "/LICENSE-1"), new URL(base + "/LICENSE-2")),
+                            settings,
+                            "UTF-8",
+                            cache,
+                            2);
+
+            assertEquals("/LICENSE-1", contents.get(0).get());
+            assertEquals("/LICENSE-2", contents.get(1).get());
+            assertEquals(2, requests.get());
+        } finally {
+            server.stop(0);
+            executor.shutdownNow();
+        }
+    }
+}
@@ -18,10 +18,27 @@
  */
 package org.apache.maven.report.projectinfo;
 
+import java.io.BufferedReader;
 import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
 
 import org.apache.maven.model.DeploymentRepository;
 import org.apache.maven.model.DistributionManagement;
@@ -169,8 +186,129 @@ public class ProjectInfoReportUtilsTest extends AbstractMojoTestCase {
         assertTrue(content.contains("Licensed to the Apache Software Foundation"));
 
         stopJetty();
+    }
+
+    public void testGetContentThroughProxy() throws Exception {
+        final List<String> requests = new ArrayList<>();
+        final AtomicInteger attempts = new AtomicInteger();
+        HttpServer proxyServer = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        proxyServer.createContext("/", new HttpHandler() {
+            public void handle(HttpExchange exchange) throws IOException {
+                attempts.incrementAndGet();
+                String credentials = exchange.getRequestHeaders().getFirst("Proxy-Authorization");
+                if (credentials == null) {
+                    exchange.getResponseHeaders().set("Proxy-Authenticate", "Basic realm=\"proxy\"");
+                    exchange.sendResponseHeaders(407, -1);
+                    exchange.close();
+                    return;
+                }
+
+                requests.add(exchange.getRequestURI() + " " + credentials);
+                byte[] content = "proxied".getBytes(StandardCharsets.UTF_8);
+                exchange.sendResponseHeaders(200, content.length);
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(content);
+                }
+                exchange.close();
+            }
+        });
+        proxyServer.start();
+        try {
+            org.apache.maven.settings.Proxy proxy = new org.apache.maven.settings.Proxy();
+            proxy.setHost("localhost");
+            proxy.setPort(proxyServer.getAddress().getPort());
+            proxy.setUsername("user");
+            proxy.setPassword("secret");
+            proxy.setNonProxyHosts("*.internal|direct.example.com");
+            Settings settings = new Settings();
+            settings.addProxy(proxy);
+
+            String content = ProjectInfoReportUtils.getContent(
+                    new URL("http://license.example.com/LICENSE.txt"), settings, "UTF-8");
+
+            assertEquals("proxied", content);
+            assertEquals(Arrays.asList("http://license.example.com/LICENSE.txt Basic dXNlcjpzZWNyZXQ="), requests);
+            // sent with the request, not by a default authenticator answering the challenge
+            assertEquals(1, attempts.get());
+            // the proxy is given to the connection only
+            assertNull(System.getProperty("http.proxyHost"));
+
+            try {
+                ProjectInfoReportUtils.getContent(new URL("http://licenses.internal:1/LICENSE.txt"), settings, "UTF-8");
+                fail("non proxy hosts are connected to directly");
+            } catch (IOException e) {
+                assertEquals(1, requests.size());
+            }
+        } finally {
+            proxyServer.stop(0);
+        }
+    }
+
+    public void testGetHttpsContentThroughProxy() throws Exception {
+        final List<String> connects = Collections.synchronizedList(new ArrayList<String>());
+        final ServerSocket proxyServer = new ServerSocket(0, 0, InetAddress.getByName("localhost"));
+        Thread proxyThread = new Thread(new Runnable() {
+            public void run() {
+                try {
+                    while (true) {
+                        try (Socket socket = proxyServer.accept()) {
+                            BufferedReader in = new BufferedReader(
+                                    new InputStreamReader(socket.getInputStream(), StandardCharsets.ISO_8859_1));
+                            OutputStream out = socket.getOutputStream();
+                            String line;
+                            while ((line = in.readLine()) != null) {
+                                String request = line;
+                                String credentials = null;
+                                while ((line = in.readLine()) != null && !line.isEmpty()) {
+                                    if (line.toLowerCase(Locale.ENGLISH).startsWith("proxy-authorization:")) {
+                                        credentials = line.substring("proxy-authorization:".length()).trim();
+                                    }
+                                }
+                                connects.add(request + (credentials != null ? " " + credentials : ""));
+                                String response = credentials == null
+                                        ? "HTTP/1.1 407 Proxy Authentication Required\r\n"
+                                                + "Proxy-Authenticate: Digest realm=\"proxy\", nonce=\"0123456789\"\r\n"
+                                        // no tunnel is opened, the TLS handshake with the remote host is not tested
+                                        : "HTTP/1.1 403 Forbidden\r\n";
+                                response += "Content-Length: 0\r\n\r\n";
+                                out.write(response.getBytes(StandardCharsets.ISO_8859_1));
+                                out.flush();
+                            }
+                        }
+                    }
+                } catch (IOException e) {
+                    // closed
+                }
+            }
+        });
+        proxyThread.start();
+        try {
+            org.apache.maven.settings.Proxy proxy = new org.apache.maven.settings.Proxy();
+            proxy.setHost("localhost");
+            proxy.setPort(proxyServer.getLocalPort());
+            proxy.setUsername("user");
+            proxy.setPassword("secret");
+            Settings settings = new Settings();
+            settings.addProxy(proxy);
+
+            try {
+                ProjectInfoReportUtils.getContent(
+                        new URL("https://license.example.com/LICENSE.txt"), settings, "UTF-8");
+                fail("the proxy refuses the tunnel");
+            } catch (IOException e) {
+                assertTrue(e.getMessage(), e.getMessage().contains("403"));
+            }
 
-        // TODO need to test with a proxy
+            // the credentials answer the challenge of the proxy for the CONNECT request, they are not preemptively
+            // sent to the remote host inside the tunnel
+            assertEquals(2, connects.size());
+            assertEquals("CONNECT license.example.com:443 HTTP/1.1", connects.get(0));
+            assertTrue(connects.get(1), connects.get(1).startsWith("CONNECT license.example.com:443 HTTP/1.1 Digest "));
+            assertTrue(connects.get(1), connects.get(1).contains("username=\"user\""));
+        } finally {
+            proxyServer.close();
+            proxyThread.join();
+        }
     }
 
     public void testGetArchiveServer() {
@@ -0,0 +1,229 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.report.projectinfo;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+import junit.framework.TestCase;
+import org.apache.maven.artifact.Artifact;
+import org.apache.maven.artifact.DefaultArtifact;
+import org.apache.maven.artifact.handler.DefaultArtifactHandler;
+import org.apache.maven.artifact.repository.ArtifactRepository;
+import org.apache.maven.artifact.repository.MavenArtifactRepository;
+import org.apache.maven.artifact.repository.layout.DefaultRepositoryLayout;
+import org.apache.maven.model.Model;
+import org.apache.maven.model.building.ModelProblem;
+import org.apache.maven.model.building.ModelSource;
+import org.apache.maven.project.DefaultProjectBuildingRequest;
+import org.apache.maven.project.DependencyResolutionResult;
+import org.apache.maven.project.MavenProject;
+import org.apache.maven.project.ProjectBuilder;
+import org.apache.maven.project.ProjectBuildingException;
+import org.apache.maven.project.ProjectBuildingRequest;
+import org.apache.maven.project.ProjectBuildingResult;
+
+/**
+ * @since 3.6.2
+ */
+public class ProjectMetadataCacheTest extends TestCase {
+    private CountingProjectBuilder projectBuilder;
+
+    private ProjectBuildingRequest buildingRequest;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+
+        projectBuilder = new CountingProjectBuilder();
+        buildingRequest = new DefaultProjectBuildingRequest();
+    }
+
+    public void testProjectIsBuiltOnce() throws Exception {
+        ProjectMetadataCache cache = new ProjectMetadataCache(10);
+
+        ProjectMetadata first = cache.build(projectBuilder, newArtifact("a", "1.0"), false, buildingRequest);
+        ProjectMetadata second = cache.build(projectBuilder, newArtifact("a", "1.0"), false, buildingRequest);
+
+        assertSame(first, second);
+        assertEquals("a", first.getArtifactId());
+        assertEquals("http://example.com/a", first.getUrl());
+        assertEquals(1, projectBuilder.builds);
+        assertEquals(1, cache.getHits());
+        assertEquals(1, cache.getMisses());
+    }
+
+    public void testFailureIsCached() throws Exception {
+        ProjectMetadataCache cache = new ProjectMetadataCache(10);
+
+        for (int i = 0; i < 2; i++) {
+            try {
+                cache.build(projectBuilder, newArtifact("broken", "1.0"), false, buildingRequest);
+                fail("ProjectBuildingException expected");
+            } catch (ProjectBuildingException e) {
+                // expected
+            }
+        }
+
+        assertEquals(1, projectBuilder.builds);
+    }
+
+    public void testFailureIsNotSharedAcrossRepositories() throws Exception {
+        ProjectMetadataCache cache = new ProjectMetadataCache(10);
+
+        ProjectBuildingRequest otherRequest = new DefaultProjectBuildingRequest();
+        otherRequest.setRemoteRepositories(Collections.<ArtifactRepository>singletonList(new MavenArtifactRepository(
+                "other", "https://repo.example.com/other", new DefaultRepositoryLayout(), null, null)));
+
+        for (ProjectBuildingRequest request : Arrays.asList(buildingRequest, otherRequest, otherRequest)) {
+            try {
+                cache.build(projectBuilder, newArtifact("broken", "1.0"), false, request);
+                fail("ProjectBuildingException expected");
+            } catch (ProjectBuildingException e) {
+                // expected
+            }
+        }
+
+        assertEquals(2, projectBuilder.builds);
+    }
+
+    public void testLeastRecentlyUsedEntriesAreEvicted() throws Exception {
+        ProjectMetadataCache cache = new ProjectMetadataCache(2);
+
+        cache.build(projectBuilder, newArtifact("a", "1.0"), false, buildingRequest);
+        cache.build(projectBuilder, newArtifact("b", "1.0"), false, buildingRequest);
+        cache.build(projectBuilder, newArtifact("a", "1.0"), false, buildingRequest);
+        cache.build(projectBuilder, newArtifact("c", "1.0"), false, buildingRequest);
+        assertEquals(2, cache.size());
+
+        cache.build(projectBuilder, newArtifact("a", "1.0"), false, buildingRequest);
+        assertEquals(3, projectBuilder.builds);
+
+        cache.build(projectBuilder, newArtifact("b", "1.0"), false, buildingRequest);
+        assertEquals(4, projectBuilder.builds);
+    }
+
+    public void testNoCaching() throws Exception {
+        ProjectMetadataCache cache = new ProjectMetadataCache(0);
+
+        cache.build(projectBuilder, newArtifact("a", "1.0"), false, buildingRequest);
+        cache.build(projectBuilder, newArtifact("a", "1.0"), false, buildingRequest);
+
+        assertEquals(2, projectBuilder.builds);
+        assertEquals(0, cache.size());
+    }
+
+    public void testBuildAll() throws Exception {
+        ProjectMetadataCache cache = new ProjectMetadataCache(10);
+
+        List<Future<ProjectMetadata>> builds = cache.buildAll(
+                projectBuilder,
+                Arrays.asList(
+                        newArtifact("a", "1.0"),
+                        newArtifact("broken", "1.0"),
+                        newArtifact("c", "1.0"),
+                        newArtifact("a", "1.0")),
+                false,
+                buildingRequest,
+                4);
+
+        assertEquals(4, builds.size());
+        assertEquals("a", builds.get(0).get().getArtifactId());
+        try {
+            builds.get(1).get();
+            fail("ExecutionException expected");
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof ProjectBuildingException);
+        }
+        assertEquals("c", builds.get(2).get().getArtifactId());
+        assertSame(builds.get(0).get(), builds.get(3).get());
+        assertEquals(3, projectBuilder.builds);
+        assertEquals(3, cache.size());
+    }
+
+    private static Artifact newArtifact(String artifactId, String version) {
+        return new DefaultArtifact(
+                "org.example", artifactId, version, null, "pom", null, new DefaultArtifactHandler("pom"));
+    }
+
+    private static class CountingProjectBuilder implements ProjectBuilder {
+        private int builds;
+
+        public ProjectBuildingResult build(Artifact artifact, ProjectBuildingRequest request)
+                throws ProjectBuildingException {
+            return build(artifact, false, request);
+        }
+
+        public synchronized ProjectBuildingResult build(
+                Artifact artifact, boolean allowStubModel, ProjectBuildingRequest request)
+                throws ProjectBuildingException {
+            builds++;
+
+            if ("broken".equals(artifact.getArtifactId())) {
+                throw new ProjectBuildingException(artifact.getId(), "broken", (Throwable) null);
+            }
+
+            Model model = new Model();
+            model.setGroupId(artifact.getGroupId());
+            model.setArtifactId(artifact.getArtifactId());
+            model.setVersion(artifact.getVersion());
+            model.setUrl("http://example.com/" + artifact.getArtifactId());
+            final MavenProject project = new MavenProject(model);
+
+            return new ProjectBuildingResult() {
+                public String getProjectId() {
+                    return project.getId();
+                }
+
+                public File getPomFile() {
+                    return null;
+                }
+
+                public MavenProject getProject() {
+                    return project;
+                }
+
+                public List<ModelProblem> getProblems() {
+                    return null;
+                }
+
+                public DependencyResolutionResult getDependencyResolutionResult() {
+                    return null;
+                }
+            };
+        }
+
+        public ProjectBuildingResult build(File projectFile, ProjectBuildingRequest request) {
+            throw new UnsupportedOperationException();
+        }
+
+        public ProjectBuildingResult build(ModelSource modelSource, ProjectBuildingRequest request) {
+            throw new UnsupportedOperationException();
+        }
+
+        public List<ProjectBuildingResult> build(
+                List<File> pomFiles, boolean recursive, ProjectBuildingRequest request) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.report.projectinfo;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import junit.framework.TestCase;
+import org.apache.maven.model.Model;
+import org.apache.maven.project.MavenProject;
+import org.codehaus.plexus.util.FileUtils;
+
+/**
+ * @since 3.6.2
+ */
+public class ReactorProjectIndexTest extends TestCase {
+    private File basedir;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+
+        basedir = Files.createTempDirectory("reactor").toFile().getCanonicalFile();
+    }
+
+    @Override
+    protected void tearDown() throws Exception {
+        FileUtils.deleteDirectory(basedir);
+
+        super.tearDown();
+    }
+
+    public void testLookups() throws Exception {
+        MavenProject parent = newProject("parent", basedir);
+        MavenProject core = newProject("core", new File(basedir, "core"));
+        MavenProject web = newProject("web", new File(basedir, "web"));
+        ReactorProjectIndex index = new ReactorProjectIndex(Arrays.asList(parent, core, web));
+
+        assertEquals(3, index.size());
+        assertSame(core, index.getProject(new File(basedir, "core")));
+        assertSame(web, index.getProject(new File(basedir, "core/../web")));
+        assertNull(index.getProject(new File(basedir, "missing")));
+
+        assertSame(parent, index.getProject("org.example", "parent"));
+        assertTrue(index.contains("org.example", "web"));
+        assertFalse(index.contains("org.example", "api"));
+        assertFalse(index.contains("org.other", "web"));
+    }
+
+    public void testNoReactor() {
+        ReactorProjectIndex index = new ReactorProjectIndex(null);
+
+        assertEquals(0, index.size());
+        assertFalse(index.contains("org.example", "parent"));
+    }
+
+    public void testSessionInstance() {
+        List<MavenProject> reactorProjects = Collections.singletonList(newProject("parent", basedir));
+
+        ReactorProjectIndex index = ReactorProjectIndex.getInstance(null, reactorProjects);
+        assertTrue(index.contains("org.example", "parent"));
+        assertNotSame(index, ReactorProjectIndex.getInstance(null, reactorProjects));
+    }
+
+    private static MavenProject newProject(String artifactId, File basedir) {
+        Model model = new Model();
+        model.setGroupId("org.example");
+        model.setArtifactId(artifactId);
+        model.setVersion("1.0");
+
+        MavenProject project = new MavenProject(model);
+        project.setFile(new File(basedir, "pom.xml"));
+        return project;
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.report.projectinfo;
+
+import java.io.File;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+import junit.framework.TestCase;
+import org.apache.maven.doxia.sink.Sink;
+import org.codehaus.plexus.util.FileUtils;
+
+/**
+ * @since 3.6.2
+ */
+public class ReportMetricsTest extends TestCase {
+    private List<String> events;
+
+    private Sink sink;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+
+        events = new ArrayList<>();
+        sink = (Sink) Proxy.newProxyInstance(
+                getClass().getClassLoader(), new Class<?>[] {Sink.class}, new InvocationHandler() {
+                    public Object invoke(Object proxy, Method method, Object[] args) {
+                        events.add(method.getName());
+                        return null;
+                    }
+                });
+    }
+
+    public void testInstrumentedSink() {
+        ReportMetrics metrics = new ReportMetrics("dependencies", "org.example:app:jar:1.0");
+
+        metrics.start();
+        Sink instrumented = metrics.instrument(sink);
+        instrumented.section1();
+        instrumented.sectionTitle1();
+        instrumented.text("Project ");
+        instrumented.text("Dependencies");
+        instrumented.sectionTitle1_();
+        instrumented.section2();
+        instrumented.sectionTitle2();
+        instrumented.text("compile");
+        instrumented.sectionTitle2_();
+        instrumented.paragraph();
+        instrumented.text("The following is a list of compile dependencies.");
+        instrumented.paragraph_();
+        instrumented.section2_();
+        instrumented.section1_();
+        metrics.stop();
+
+        // all the events are forwarded
+        assertEquals(14, events.size());
+        assertEquals(14, metrics.getSinkEvents());
+
+        assertEquals(2, metrics.getSections().size());
+        ReportMetrics.Section dependencies = metrics.getSections().get(0);
+        assertEquals("Project Dependencies", dependencies.getTitle());
+        assertEquals(1, dependencies.getDepth());
+        assertEquals(14, dependencies.getSinkEvents());
+        ReportMetrics.Section compile = metrics.getSections().get(1);
+        assertEquals("compile", compile.getTitle());
+        assertEquals(2, compile.getDepth());
+        assertEquals(8, compile.getSinkEvents());
+        assertTrue(compile.getElapsedNanos() <= dependencies.getElapsedNanos());
+        assertTrue(dependencies.getElapsedNanos() <= metrics.getElapsedNanos());
+    }
+
+    public void testCounters() {
+        ReportMetrics metrics = new ReportMetrics("plugins", null);
+
+        metrics.add("projectBuilds", 2, 3000000);
+        metrics.add("projectCacheHits", 5);
+        metrics.add("projectBuilds", 1, 1000000);
+
+        assertEquals(Long.valueOf(3), metrics.getCounters().get("projectBuilds"));
+        assertEquals(Long.valueOf(5), metrics.getCounters().get("projectCacheHits"));
+        assertEquals(Long.valueOf(4000000), metrics.getTimings().get("projectBuilds"));
+        assertNull(metrics.getTimings().get("projectCacheHits"));
+    }
+
+    public void testJson() throws Exception {
+        ReportMetrics metrics = new ReportMetrics("licenses", "org.example:\"quoted\"");
+        metrics.add("licenseFetches", 1, 1500000);
+        Sink instrumented = metrics.instrument(sink);
+        instrumented.section1();
+        instrumented.sectionTitle1();
+        instrumented.text("Licenses");
+        instrumented.sectionTitle1_();
+        instrumented.section1_();
+
+        String json = metrics.toJson();
+        assertTrue(json, json.contains("\"report\": \"licenses\""));
+        assertTrue(json, json.contains("\"project\": \"org.example:\\\"quoted\\\"\""));
+        assertTrue(json, json.contains("\"sinkEvents\": 5"));
+        assertTrue(json, json.contains("\"licenseFetches\": 1"));
+        assertTrue(json, json.contains("\"licenseFetches\": 1.500"));
+        assertTrue(json, json.contains("{\"title\": \"Licenses\", \"depth\": 1, \"elapsedMillis\": "));
+
+        File directory = Files.createTempDirectory("metrics").toFile();
+        try {
+            File file = new File(directory, "target/metrics/licenses.json");
+            metrics.write(file);
+            assertEquals(json, new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8));
+        } finally {
+            FileUtils.deleteDirectory(directory);
+        }
+    }
+
+    public void testSummary() {
+        ReportMetrics metrics = new ReportMetrics("modules", null);
+        Sink instrumented = metrics.instrument(sink);
+        instrumented.section1();
+        instrumented.section1_();
+        metrics.add("projectBuilds", 4, 2000000);
+
+        List<String> summary = metrics.getSummary();
+        assertEquals(5, summary.size());
+        assertTrue(summary.get(0), summary.get(0).startsWith("Report modules"));
+        assertTrue(summary.get(4), summary.get(4).matches("  projectBuilds +2\\.000 +4"));
+    }
+}
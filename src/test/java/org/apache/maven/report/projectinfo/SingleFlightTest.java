@@ -0,0 +1,126 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.report.projectinfo;
+
+import java.io.IOException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import junit.framework.TestCase;
+
+/**
+ * @since 3.6.2
+ */
+public class SingleFlightTest extends TestCase {
+    public void testConcurrentCallsOfSameKeyAreCoalesced() throws Exception {
+        final SingleFlight<String, String> singleFlight = new SingleFlight<>();
+        final AtomicInteger computations = new AtomicInteger();
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<String> first = executor.submit(new Callable<String>() {
+                public String call() throws Exception {
+                    return singleFlight.execute("key", new Callable<String>() {
+                        public String call() throws Exception {
+                            computations.incrementAndGet();
+                            started.countDown();
+                            release.await();
+                            return "value";
+                        }
+                    });
+                }
+            });
+            assertTrue(started.await(10, TimeUnit.SECONDS));
+
+            Future<String> second = executor.submit(new Callable<String>() {
+                public String call() throws Exception {
+                    return singleFlight.execute("key", new Callable<String>() {
+                        public String call() {
+                            computations.incrementAndGet();
+                            return "other";
+                        }
+                    });
+                }
+            });
+            while (singleFlight.getCoalesced() == 0) {
+                Thread.sleep(1);
+            }
+            release.countDown();
+
+            assertEquals("value", first.get(10, TimeUnit.SECONDS));
+            assertEquals("value", second.get(10, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(1, computations.get());
+        assertEquals(1, singleFlight.getExecutions());
+        assertEquals(1, singleFlight.getCoalesced());
+    }
+
+    public void testValueIsNotKept() throws Exception {
+        SingleFlight<String, String> singleFlight = new SingleFlight<>();
+        Callable<String> callable = new Callable<String>() {
+            public String call() {
+                return "value";
+            }
+        };
+
+        assertEquals("value", singleFlight.execute("key", callable));
+        assertEquals("value", singleFlight.execute("key", callable));
+        assertEquals(2, singleFlight.getExecutions());
+        assertEquals(0, singleFlight.getCoalesced());
+    }
+
+    public void testFailures() {
+        SingleFlight<String, String> singleFlight = new SingleFlight<>();
+
+        try {
+            singleFlight.execute("checked", new Callable<String>() {
+                public String call() throws IOException {
+                    throw new IOException("checked");
+                }
+            });
+            fail("ExecutionException expected");
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof IOException);
+        }
+
+        try {
+            singleFlight.execute("unchecked", new Callable<String>() {
+                public String call() {
+                    throw new IllegalArgumentException("unchecked");
+                }
+            });
+            fail("IllegalArgumentException expected");
+        } catch (IllegalArgumentException e) {
+            assertEquals("unchecked", e.getMessage());
+        } catch (ExecutionException e) {
+            fail("unchecked exceptions are rethrown as is");
+        }
+    }
+}
@@ -18,6 +18,7 @@
  */
 package org.apache.maven.report.projectinfo;
 
+import java.io.File;
 import java.net.URL;
 
 import com.meterware.httpunit.GetMethodWebRequest;
@@ -70,4 +71,24 @@ public class SummaryReportTest extends AbstractProjectInfoTestCase {
         assertEquals(getString("report.summary.noorganization"), textBlocks[3].getText());
         assertEquals(getString("report.summary.build.title"), textBlocks[4].getText());
     }
+
+    /**
+     * Test that the metrics are recorded when the report is generated standalone.
+     *
+     * @throws Exception if any
+     */
+    public void testReportMetrics() throws Exception {
+        File pluginXmlFile = new File(getBasedir(), "src/test/resources/plugin-configs/summary-plugin-config.xml");
+        AbstractProjectInfoReport mojo = createReportMojo("summary", pluginXmlFile);
+        File metricsDirectory = new File(getBasedir(), "target/test-harness/summary/metrics");
+        File metricsFile = new File(metricsDirectory, "summary.json");
+        metricsFile.delete();
+        setVariableValueToObject(mojo, "metrics", Boolean.TRUE);
+        setVariableValueToObject(mojo, "metricsDirectory", metricsDirectory);
+
+        generateReport(mojo, pluginXmlFile);
+        assertTrue("Test html generated", getGeneratedReport("summary.html").exists());
+        assertTrue("Test metrics written", metricsFile.exists());
+        assertTrue(metricsFile.length() > 0);
+    }
 }
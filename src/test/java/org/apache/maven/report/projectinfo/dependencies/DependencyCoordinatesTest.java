@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.report.projectinfo.dependencies;
+
+import junit.framework.TestCase;
+import org.apache.maven.artifact.Artifact;
+import org.apache.maven.artifact.DefaultArtifact;
+import org.apache.maven.artifact.handler.DefaultArtifactHandler;
+
+/**
+ * @since 3.6.2
+ */
+public class DependencyCoordinatesTest extends TestCase {
+    public void testDenseIds() {
+        DependencyCoordinates coordinates = new DependencyCoordinates();
+
+        assertEquals(0, coordinates.getGroupArtifactId(newArtifact("org.example", "a", "1.0")));
+        assertEquals(1, coordinates.getGroupArtifactId(newArtifact("org.example", "b", "1.0")));
+        assertEquals(2, coordinates.getGroupArtifactId(newArtifact("org.other", "a", "1.0")));
+        assertEquals(0, coordinates.getGroupArtifactId(newArtifact("org.example", "a", "2.0")));
+        assertEquals(3, coordinates.getGroupArtifactCount());
+
+        assertEquals(0, coordinates.getVersionId(newArtifact("org.example", "a", "1.0")));
+        assertEquals(1, coordinates.getVersionId(newArtifact("org.example", "a", "2.0")));
+        assertEquals(2, coordinates.getVersionId(newArtifact("org.other", "a", "1.0")));
+        assertEquals(0, coordinates.getVersionId(newArtifact("org.example", "a", "1.0")));
+        assertEquals(3, coordinates.getVersionCount());
+        // looking up a version doesn't change the ids of the groupId:artifactId
+        assertEquals(3, coordinates.getGroupArtifactCount());
+    }
+
+    public void testManyVersions() {
+        DependencyCoordinates coordinates = new DependencyCoordinates();
+
+        for (int i = 0; i < 200; i++) {
+            assertEquals(i, coordinates.getVersionId(newArtifact("org.example", "a" + (i % 10), "1." + i)));
+        }
+        assertEquals(200, coordinates.getVersionCount());
+        assertEquals(10, coordinates.getGroupArtifactCount());
+        for (int i = 0; i < 200; i++) {
+            assertEquals(i % 10, coordinates.getGroupArtifactIdOfVersion(i));
+            assertEquals("1." + i, coordinates.getArtifact(i).getVersion());
+        }
+    }
+
+    public void testSnapshots() {
+        DependencyCoordinates coordinates = new DependencyCoordinates();
+
+        int release = coordinates.getVersionId(newArtifact("org.example", "a", "1.0"));
+        int snapshot = coordinates.getVersionId(newArtifact("org.example", "a", "1.1-SNAPSHOT"));
+        int otherSnapshot = coordinates.getVersionId(newArtifact("org.example", "b", "2.0-SNAPSHOT"));
+
+        assertFalse(coordinates.isSnapshot(release));
+        assertTrue(coordinates.isSnapshot(snapshot));
+        assertTrue(coordinates.isSnapshot(otherSnapshot));
+    }
+
+    public void testRoundTrip() {
+        DependencyCoordinates coordinates = new DependencyCoordinates();
+        Artifact first = newArtifact("org.example", "a", "1.0");
+        Artifact second = newArtifact("org.example", "a", "1.0");
+
+        int groupArtifactId = coordinates.getGroupArtifactId(first);
+        int versionId = coordinates.getVersionId(first);
+
+        assertEquals("org.example:a", coordinates.getGroupArtifactKey(groupArtifactId));
+        assertEquals(groupArtifactId, coordinates.getGroupArtifactIdOfVersion(versionId));
+        assertEquals(versionId, coordinates.getVersionId(second));
+        // the first artifact looked up with these coordinates
+        assertSame(first, coordinates.getArtifact(versionId));
+    }
+
+    private static Artifact newArtifact(String groupId, String artifactId, String version) {
+        return new DefaultArtifact(
+                groupId, artifactId, version, "compile", "jar", null, new DefaultArtifactHandler("jar"));
+    }
+}
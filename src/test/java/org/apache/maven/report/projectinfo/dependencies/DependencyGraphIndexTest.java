@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.report.projectinfo.dependencies;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import junit.framework.TestCase;
+import org.apache.maven.artifact.DefaultArtifact;
+import org.apache.maven.artifact.handler.DefaultArtifactHandler;
+import org.apache.maven.shared.dependency.graph.DependencyNode;
+import org.apache.maven.shared.dependency.graph.internal.DefaultDependencyNode;
+import org.apache.maven.shared.dependency.graph.traversal.DependencyNodeVisitor;
+
+/**
+ * @since 3.6.2
+ */
+public class DependencyGraphIndexTest extends TestCase {
+    public void testPathsToArtifact() {
+        // root -> a -> b
+        //           -> c -> d
+        //      -> e -> f
+        //           -> c
+        DefaultDependencyNode root = newNode(null, "root");
+        DefaultDependencyNode a = newNode(root, "a");
+        DefaultDependencyNode b = newNode(a, "b");
+        DefaultDependencyNode c1 = newNode(a, "c");
+        DefaultDependencyNode d = newNode(c1, "d");
+        DefaultDependencyNode e = newNode(root, "e");
+        DefaultDependencyNode f = newNode(e, "f");
+        DefaultDependencyNode c2 = newNode(e, "c");
+        root.setChildren(Arrays.<DependencyNode>asList(a, e));
+        a.setChildren(Arrays.<DependencyNode>asList(b, c1));
+        c1.setChildren(Arrays.<DependencyNode>asList(d));
+        e.setChildren(Arrays.<DependencyNode>asList(f, c2));
+
+        DependencyGraphIndex index = new DependencyGraphIndex(root);
+        assertEquals(8, index.size());
+        assertEquals(2, index.getNodeIds("org.example:c:jar:1.0").length);
+        assertEquals(0, index.getNodeIds("org.example:c:jar:2.0").length);
+
+        RecordingVisitor visitor = new RecordingVisitor();
+        index.accept(visitor, index.getAncestorsOrSelf(index.getNodeIds("org.example:c:jar:1.0")));
+
+        assertEquals(Arrays.asList("root", "a", "c", "/c", "/a", "e", "c", "/c", "/e", "/root"), visitor.events);
+    }
+
+    public void testNoPath() {
+        DefaultDependencyNode root = newNode(null, "root");
+
+        DependencyGraphIndex index = new DependencyGraphIndex(root);
+        RecordingVisitor visitor = new RecordingVisitor();
+        index.accept(visitor, index.getAncestorsOrSelf(index.getNodeIds("org.example:a:jar:1.0")));
+
+        assertTrue(visitor.events.isEmpty());
+    }
+
+    private static DefaultDependencyNode newNode(DependencyNode parent, String artifactId) {
+        DefaultArtifact artifact = new DefaultArtifact(
+                "org.example", artifactId, "1.0", "compile", "jar", null, new DefaultArtifactHandler("jar"));
+        DefaultDependencyNode node = new DefaultDependencyNode(parent, artifact, null, null, null);
+        node.setChildren(new ArrayList<DependencyNode>());
+        return node;
+    }
+
+    private static class RecordingVisitor implements DependencyNodeVisitor {
+        private final List<String> events = new ArrayList<>();
+
+        public boolean visit(DependencyNode node) {
+            events.add(node.getArtifact().getArtifactId());
+            return true;
+        }
+
+        public boolean endVisit(DependencyNode node) {
+            events.add("/" + node.getArtifact().getArtifactId());
+            return true;
+        }
+    }
+}
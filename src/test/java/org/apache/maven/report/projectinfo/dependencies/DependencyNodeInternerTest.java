@@ -0,0 +1,163 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.report.projectinfo.dependencies;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import junit.framework.TestCase;
+import org.apache.maven.artifact.DefaultArtifact;
+import org.apache.maven.artifact.handler.DefaultArtifactHandler;
+import org.apache.maven.shared.dependency.graph.DependencyNode;
+import org.apache.maven.shared.dependency.graph.internal.DefaultDependencyNode;
+import org.apache.maven.shared.dependency.graph.traversal.DependencyNodeVisitor;
+
+/**
+ * @since 3.6.2
+ */
+public class DependencyNodeInternerTest extends TestCase {
+    private static final int MODULES = 500;
+
+    /**
+     * Number of nodes of the closure of dependencies shared by all the modules.
+     */
+    private static final int SHARED_NODES = 400;
+
+    public void testReactorFootprintScalesWithDistinctSubtrees() {
+        DependencyNodeInterner interner = new DependencyNodeInterner();
+
+        List<DependencyNode> roots = new ArrayList<>();
+        int collectedNodes = 0;
+        for (int i = 0; i < MODULES; i++) {
+            // each module is collected on its own, with its own node instances
+            DefaultDependencyNode root = newNode(null, "module-" + i);
+            List<DependencyNode> children = new ArrayList<>();
+            children.add(newNode(root, "own-" + i));
+            children.add(newSharedClosure(root));
+            root.setChildren(children);
+
+            collectedNodes += size(root);
+            roots.add(interner.intern(root));
+        }
+
+        // the module roots, their own dependencies, and the shared closure once
+        int distinctNodes = 2 * MODULES + SHARED_NODES;
+        assertEquals(MODULES * (2 + SHARED_NODES), collectedNodes);
+        assertEquals(distinctNodes, interner.size());
+
+        // what the reactor trees keep alive
+        Map<DependencyNode, Boolean> retained = new IdentityHashMap<>();
+        for (DependencyNode root : roots) {
+            collectRetained(root, retained);
+        }
+        assertEquals(distinctNodes, retained.size());
+
+        // the trees are unchanged
+        for (int i = 0; i < MODULES; i++) {
+            assertEquals(2 + SHARED_NODES, size(roots.get(i)));
+            assertEquals("module-" + i, roots.get(i).getArtifact().getArtifactId());
+        }
+        assertSame(roots.get(0).getChildren().get(1), roots.get(MODULES - 1).getChildren().get(1));
+    }
+
+    public void testDifferentSubtreesAreNotShared() {
+        DependencyNodeInterner interner = new DependencyNodeInterner();
+
+        DefaultDependencyNode root1 = newNode(null, "a");
+        DefaultDependencyNode child1 = newNode(root1, "b");
+        root1.setChildren(Collections.<DependencyNode>singletonList(child1));
+
+        DefaultDependencyNode root2 = newNode(null, "a");
+        root2.setChildren(new ArrayList<DependencyNode>());
+
+        DependencyNode interned1 = interner.intern(root1);
+        DependencyNode interned2 = interner.intern(root2);
+
+        assertNotSame(interned1, interned2);
+        assertEquals(1, interned1.getChildren().size());
+        assertEquals(0, interned2.getChildren().size());
+        assertEquals(3, interner.size());
+    }
+
+    public void testUnusedTreesAreForgotten() throws Exception {
+        DependencyNodeInterner interner = new DependencyNodeInterner();
+
+        DefaultDependencyNode root = newNode(null, "a");
+        root.getChildren().add(newNode(root, "b"));
+        interner.intern(root);
+
+        // nothing keeps the interned tree, the interner must not either
+        for (int i = 0; i < 50 && interner.size() > 0; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+
+        assertEquals(0, interner.size());
+    }
+
+    /**
+     * @return a chain of libraries, each depending on the next ones in a tree of {@link #SHARED_NODES} nodes.
+     */
+    private static DependencyNode newSharedClosure(DependencyNode parent) {
+        List<DefaultDependencyNode> nodes = new ArrayList<>();
+        for (int i = 0; i < SHARED_NODES; i++) {
+            DefaultDependencyNode nodeParent = i == 0 ? (DefaultDependencyNode) parent : nodes.get((i - 1) / 4);
+            DefaultDependencyNode node = newNode(nodeParent, "lib-" + i);
+            if (i > 0) {
+                nodeParent.getChildren().add(node);
+            }
+            nodes.add(node);
+        }
+        return nodes.get(0);
+    }
+
+    private static DefaultDependencyNode newNode(DependencyNode parent, String artifactId) {
+        DefaultArtifact artifact = new DefaultArtifact(
+                "org.example", artifactId, "1.0", "compile", "jar", null, new DefaultArtifactHandler("jar"));
+        DefaultDependencyNode node = new DefaultDependencyNode(parent, artifact, null, null, null);
+        node.setChildren(new ArrayList<DependencyNode>());
+        return node;
+    }
+
+    private static int size(DependencyNode root) {
+        final int[] count = new int[1];
+        root.accept(new DependencyNodeVisitor() {
+            public boolean visit(DependencyNode node) {
+                count[0]++;
+                return true;
+            }
+
+            public boolean endVisit(DependencyNode node) {
+                return true;
+            }
+        });
+        return count[0];
+    }
+
+    private static void collectRetained(DependencyNode node, Map<DependencyNode, Boolean> retained) {
+        if (retained.put(node, Boolean.TRUE) == null) {
+            for (DependencyNode child : node.getChildren()) {
+                collectRetained(child, retained);
+            }
+        }
+    }
+}
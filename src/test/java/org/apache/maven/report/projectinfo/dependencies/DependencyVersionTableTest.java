@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.report.projectinfo.dependencies;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import junit.framework.TestCase;
+import org.apache.maven.artifact.Artifact;
+import org.apache.maven.artifact.DefaultArtifact;
+import org.apache.maven.artifact.handler.DefaultArtifactHandler;
+import org.apache.maven.shared.dependency.graph.DependencyNode;
+import org.apache.maven.shared.dependency.graph.internal.DefaultDependencyNode;
+
+/**
+ * @since 3.6.2
+ */
+public class DependencyVersionTableTest extends TestCase {
+    public void testSameConflictsAsDependencyVersionMap() {
+        // root -> a:1.0 -> b:1.0 -> c:1.0
+        //      -> b:2.0 -> c:2.0 (not looked at, as b is conflicting)
+        //      -> d:1.0 -> c:3.0
+        DependencyNode root = newNode(null, "root", "1.0");
+        DependencyNode a = newNode(root, "a", "1.0");
+        DependencyNode b1 = newNode(a, "b", "1.0");
+        DependencyNode c1 = newNode(b1, "c", "1.0");
+        DependencyNode b2 = newNode(root, "b", "2.0");
+        DependencyNode c2 = newNode(b2, "c", "2.0");
+        DependencyNode d = newNode(root, "d", "1.0");
+        DependencyNode c3 = newNode(d, "c", "3.0");
+        setChildren(root, a, b2, d);
+        setChildren(a, b1);
+        setChildren(b1, c1);
+        setChildren(b2, c2);
+        setChildren(d, c3);
+
+        DependencyVersionMap versionMap = new DependencyVersionMap();
+        versionMap.setUniqueVersions(true);
+        root.accept(versionMap);
+
+        DependencyVersionTable versionTable = new DependencyVersionTable();
+        root.accept(versionTable);
+
+        assertEquals(
+                toIds(versionMap.getConflictedVersionNumbers()), toIds(versionTable.getConflictedVersionNumbers()));
+        assertEquals(
+                Arrays.asList(Arrays.asList("b:1.0", "b:2.0"), Arrays.asList("c:1.0", "c:3.0")),
+                toIds(versionTable.getConflictedVersionNumbers()));
+    }
+
+    public void testDependencyVersions() {
+        DependencyNode root = newNode(null, "root", "1.0");
+        DependencyNode a = newNode(root, "a", "1.0");
+        DependencyNode b1 = newNode(a, "b", "1.0");
+        DependencyNode b2 = newNode(root, "b", "1.0");
+        DependencyNode b3 = newNode(root, "b", "2.0-SNAPSHOT");
+        setChildren(root, a, b2, b3);
+        setChildren(a, b1);
+
+        DependencyVersionTable versionTable = new DependencyVersionTable();
+        root.accept(versionTable);
+
+        assertEquals(3, versionTable.getVersionCount());
+        List<String> ids = new ArrayList<>();
+        for (Artifact artifact : versionTable.getDependencyArtifacts()) {
+            ids.add(artifact.getArtifactId() + ":" + artifact.getVersion());
+        }
+        assertEquals(Arrays.asList("a:1.0", "b:1.0", "b:2.0-SNAPSHOT"), ids);
+    }
+
+    private static List<List<String>> toIds(List<List<DependencyNode>> groups) {
+        List<List<String>> ids = new ArrayList<>();
+        for (List<DependencyNode> nodes : groups) {
+            List<String> group = new ArrayList<>();
+            for (DependencyNode node : nodes) {
+                group.add(node.getArtifact().getArtifactId() + ":" + node.getArtifact().getVersion());
+            }
+            ids.add(group);
+        }
+        return ids;
+    }
+
+    private static DependencyNode newNode(DependencyNode parent, String artifactId, String version) {
+        Artifact artifact = new DefaultArtifact(
+                "org.example", artifactId, version, "compile", "jar", null, new DefaultArtifactHandler("jar"));
+        DefaultDependencyNode node = new DefaultDependencyNode(parent, artifact, null, null, null);
+        node.setChildren(new ArrayList<DependencyNode>());
+        return node;
+    }
+
+    private static void setChildren(DependencyNode node, DependencyNode... children) {
+        ((DefaultDependencyNode) node).setChildren(Arrays.asList(children));
+    }
+}
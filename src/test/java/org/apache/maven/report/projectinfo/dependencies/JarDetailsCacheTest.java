@@ -0,0 +1,132 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.report.projectinfo.dependencies;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Collections;
+
+import junit.framework.TestCase;
+import org.apache.maven.plugin.logging.SystemStreamLog;
+import org.codehaus.plexus.util.FileUtils;
+
+/**
+ * @since 3.6.2
+ */
+public class JarDetailsCacheTest extends TestCase {
+    private File directory;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+
+        directory = new File(System.getProperty("basedir", "."), "target/unit/jar-details-cache/" + getName());
+        FileUtils.deleteDirectory(directory);
+        directory.mkdirs();
+    }
+
+    public void testRoundTrip() throws Exception {
+        File cacheFile = new File(directory, "jar-details.properties");
+        File jar = createFile("a.jar", "a");
+
+        JarDetails.VersionedRuntime runtime = new JarDetails.VersionedRuntime(9, 3, 2, 1, "9", false);
+        JarDetailsCache cache = new JarDetailsCache(cacheFile, 10, true, new SystemStreamLog());
+        cache.put(jar, new JarDetails(12, 8, 5, 2, "1.8", true, false, true, Collections.singletonList(runtime)));
+        cache.save();
+
+        JarDetails details = new JarDetailsCache(cacheFile, 10, true, new SystemStreamLog()).get(jar);
+
+        assertNotNull(details);
+        assertEquals(12, details.getNumEntries());
+        assertEquals(8, details.getNumRootEntries());
+        assertEquals(5, details.getNumClasses());
+        assertEquals(2, details.getNumPackages());
+        assertEquals("1.8", details.getJdkRevision());
+        assertTrue(details.isDebugPresent());
+        assertFalse(details.isSealed());
+        assertTrue(details.isMultiRelease());
+        assertEquals(1, details.getVersionedRuntimes().size());
+        assertEquals(9, details.getVersionedRuntimes().get(0).getVersion());
+        assertEquals(3, details.getVersionedRuntimes().get(0).getNumEntries());
+        assertEquals("9", details.getVersionedRuntimes().get(0).getJdkRevision());
+    }
+
+    public void testChangedFileIsNotServed() throws Exception {
+        File cacheFile = new File(directory, "jar-details.properties");
+        File jar = createFile("a.jar", "a");
+
+        JarDetailsCache cache = new JarDetailsCache(cacheFile, 10, false, new SystemStreamLog());
+        cache.put(jar, newJarDetails());
+        assertNotNull(cache.get(jar));
+
+        FileUtils.fileWrite(jar, "changed");
+
+        assertNull(cache.get(jar));
+    }
+
+    public void testLeastRecentlyUsedEntriesAreEvicted() throws Exception {
+        File cacheFile = new File(directory, "jar-details.properties");
+        File first = createFile("first.jar", "1");
+        File second = createFile("second.jar", "2");
+        File third = createFile("third.jar", "3");
+
+        JarDetailsCache cache = new JarDetailsCache(cacheFile, 2, false, new SystemStreamLog());
+        cache.put(first, newJarDetails());
+        Thread.sleep(10);
+        cache.put(second, newJarDetails());
+        Thread.sleep(10);
+        cache.put(third, newJarDetails());
+        cache.save();
+
+        cache = new JarDetailsCache(cacheFile, 2, false, new SystemStreamLog());
+        assertNull(cache.get(first));
+        assertNotNull(cache.get(second));
+        assertNotNull(cache.get(third));
+    }
+
+    public void testHitDoesNotRewriteCache() throws Exception {
+        File cacheFile = new File(directory, "jar-details.properties");
+        File jar = createFile("a.jar", "a");
+
+        JarDetailsCache cache = new JarDetailsCache(cacheFile, 10, false, new SystemStreamLog());
+        cache.put(jar, newJarDetails());
+        cache.save();
+        String content = FileUtils.fileRead(cacheFile);
+
+        Thread.sleep(10);
+        cache = new JarDetailsCache(cacheFile, 10, false, new SystemStreamLog());
+        assertNotNull(cache.get(jar));
+        cache.save();
+
+        assertEquals(content, FileUtils.fileRead(cacheFile));
+        // the jar and the cache, no temporary file left behind
+        assertEquals(2, directory.list().length);
+    }
+
+    private File createFile(String name, String content) throws IOException {
+        File file = new File(directory, name);
+        FileUtils.fileWrite(file, content);
+        return file;
+    }
+
+    private static JarDetails newJarDetails() {
+        return new JarDetails(
+                1, 1, 1, 1, "1.8", false, false, false, Collections.<JarDetails.VersionedRuntime>emptyList());
+    }
+}
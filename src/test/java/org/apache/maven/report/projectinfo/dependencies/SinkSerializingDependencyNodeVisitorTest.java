@@ -0,0 +1,117 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.report.projectinfo.dependencies;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import junit.framework.TestCase;
+import org.apache.maven.artifact.DefaultArtifact;
+import org.apache.maven.artifact.handler.DefaultArtifactHandler;
+import org.apache.maven.doxia.sink.impl.SinkAdapter;
+import org.apache.maven.shared.dependency.graph.DependencyNode;
+import org.apache.maven.shared.dependency.graph.internal.DefaultDependencyNode;
+
+/**
+ * @since 3.6.2
+ */
+public class SinkSerializingDependencyNodeVisitorTest extends TestCase {
+    public void testTree() {
+        DefaultDependencyNode root = newNode(null, "root");
+        DefaultDependencyNode a = newNode(root, "a");
+        DefaultDependencyNode b = newNode(a, "b");
+        DefaultDependencyNode c = newNode(a, "c");
+        DefaultDependencyNode d = newNode(c, "d");
+        DefaultDependencyNode e = newNode(root, "e");
+        DefaultDependencyNode f = newNode(e, "f");
+        root.setChildren(Arrays.<DependencyNode>asList(a, e));
+        a.setChildren(Arrays.<DependencyNode>asList(b, c));
+        c.setChildren(Arrays.<DependencyNode>asList(d));
+        e.setChildren(Arrays.<DependencyNode>asList(f));
+
+        TextSink sink = new TextSink();
+        root.accept(new SinkSerializingDependencyNodeVisitor(sink));
+
+        assertEquals(
+                "org.example:root:jar:1.0:compile\n"
+                        + "+- org.example:a:jar:1.0:compile\n"
+                        + "|  +- org.example:b:jar:1.0:compile\n"
+                        + "|  \\- org.example:c:jar:1.0:compile\n"
+                        + "|     \\- org.example:d:jar:1.0:compile\n"
+                        + "\\- org.example:e:jar:1.0:compile\n"
+                        + "   \\- org.example:f:jar:1.0:compile\n",
+                sink.toString());
+    }
+
+    public void testTreeWithoutParents() {
+        DefaultDependencyNode root = newNode(null, "root");
+        DefaultDependencyNode a = newNode(null, "a");
+        DefaultDependencyNode b = newNode(null, "b");
+        DefaultDependencyNode c = newNode(null, "c");
+        DefaultDependencyNode d = newNode(null, "d");
+        root.setChildren(Arrays.<DependencyNode>asList(a, d));
+        a.setChildren(Arrays.<DependencyNode>asList(b, c));
+
+        TextSink sink = new TextSink();
+        root.accept(new SinkSerializingDependencyNodeVisitor(sink));
+
+        assertEquals(
+                "org.example:root:jar:1.0:compile\n"
+                        + "+- org.example:a:jar:1.0:compile\n"
+                        + "|  +- org.example:b:jar:1.0:compile\n"
+                        + "|  \\- org.example:c:jar:1.0:compile\n"
+                        + "\\- org.example:d:jar:1.0:compile\n",
+                sink.toString());
+    }
+
+    private static DefaultDependencyNode newNode(DependencyNode parent, String artifactId) {
+        DefaultArtifact artifact = new DefaultArtifact(
+                "org.example", artifactId, "1.0", "compile", "jar", null, new DefaultArtifactHandler("jar"));
+        DefaultDependencyNode node = new DefaultDependencyNode(parent, artifact, null, null, null);
+        node.setChildren(new ArrayList<DependencyNode>());
+        return node;
+    }
+
+    /**
+     * Keeps the text of the tree, with plain spaces.
+     */
+    private static class TextSink extends SinkAdapter {
+        private final StringBuilder text = new StringBuilder();
+
+        @Override
+        public void text(String t) {
+            text.append(t);
+        }
+
+        @Override
+        public void nonBreakingSpace() {
+            text.append(' ');
+        }
+
+        @Override
+        public void lineBreak() {
+            text.append('\n');
+        }
+
+        @Override
+        public String toString() {
+            return text.toString();
+        }
+    }
+}